@@ -0,0 +1,134 @@
+package com.leticiapillar.coffeestore.api.benchmarks;
+
+import com.leticiapillar.coffeestore.api.identifiers.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Needs the docker-compose Postgres, or BENCHMARK_JDBC_URL / BENCHMARK_JDBC_USER / BENCHMARK_JDBC_PASSWORD.
+// Creates as many coffees as one capped POST /api/coffees/batch accepts, each with its change_event outbox row.
+// "single" does it the way one POST /api/coffees per coffee reaches the database: two inserts and a commit each.
+// "batched" does it the way the batch endpoint does: one transaction, both tables sent in JDBC batches of 50 that
+// reWriteBatchedInserts turns into multi-row inserts. The statements are issued over plain JDBC, so the numbers
+// show the round trips and commits that batching saves; they leave out Hibernate's flush, the catalog update and
+// the HTTP layer, which both paths pay per coffee.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    // the default coffeestore.pagination.max-size, the largest batch the endpoint accepts
+    private static final int COFFEES_PER_BATCH = 100;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final String COFFEE_TABLE = "batch_insert_benchmark_coffee";
+    private static final String CHANGE_TABLE = "batch_insert_benchmark_change";
+
+    @Param({"single", "batched"})
+    private String mode;
+
+    private Connection connection;
+    private PreparedStatement insertCoffee;
+    private PreparedStatement insertChange;
+    // ids come from a pooled sequence in the application, so they cost no round trip here either
+    private long nextChangeId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5432/coffeestoredb?reWriteBatchedInserts=true"),
+                env("BENCHMARK_JDBC_USER", "coffeestore"),
+                env("BENCHMARK_JDBC_PASSWORD", "coffeestore"));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + COFFEE_TABLE);
+            statement.execute("drop table if exists " + CHANGE_TABLE);
+            statement.execute("create table " + COFFEE_TABLE + " (id uuid primary key, name varchar(120), "
+                    + "size varchar(20), price numeric(10, 2), enabled boolean, created_at timestamp(6), version bigint)");
+            statement.execute("create table " + CHANGE_TABLE + " (id bigint primary key, sequence bigint unique, "
+                    + "entity_type varchar(20), entity_id uuid, parent_id uuid, change_type varchar(20), "
+                    + "occurred_at timestamp(6))");
+        }
+        connection.commit();
+        insertCoffee = connection.prepareStatement("insert into " + COFFEE_TABLE
+                + " (id, name, size, price, enabled, created_at, version) values (?, ?, ?, ?, ?, ?, ?)");
+        insertChange = connection.prepareStatement("insert into " + CHANGE_TABLE
+                + " (id, entity_type, entity_id, change_type, occurred_at) values (?, ?, ?, ?, ?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table " + COFFEE_TABLE);
+            statement.execute("drop table " + CHANGE_TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COFFEES_PER_BATCH)
+    public void createCoffees() throws SQLException {
+        boolean batched = "batched".equals(mode);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < COFFEES_PER_BATCH; i++) {
+            UUID id = UuidV7.generate();
+            insertCoffee.setObject(1, id);
+            insertCoffee.setString(2, "Coffee " + i);
+            insertCoffee.setString(3, "MEDIUM");
+            insertCoffee.setBigDecimal(4, BigDecimal.valueOf(54.99));
+            insertCoffee.setBoolean(5, true);
+            insertCoffee.setTimestamp(6, now);
+            insertCoffee.setLong(7, 0);
+            insertChange.setLong(1, nextChangeId++);
+            insertChange.setString(2, "COFFEE");
+            insertChange.setObject(3, id);
+            insertChange.setString(4, "CREATED");
+            insertChange.setTimestamp(5, now);
+            if (!batched) {
+                insertCoffee.executeUpdate();
+                insertChange.executeUpdate();
+                connection.commit();
+            } else {
+                insertCoffee.addBatch();
+                insertChange.addBatch();
+                if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+                    insertCoffee.executeBatch();
+                    insertChange.executeBatch();
+                }
+            }
+        }
+        if (batched) {
+            insertCoffee.executeBatch();
+            insertChange.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        return System.getenv().getOrDefault(name, defaultValue);
+    }
+}
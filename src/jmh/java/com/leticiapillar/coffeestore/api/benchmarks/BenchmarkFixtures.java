@@ -0,0 +1,88 @@
+package com.leticiapillar.coffeestore.api.benchmarks;
+
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.models.Address;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import com.leticiapillar.coffeestore.api.repositories.CoffeeRepository;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+
+    private static final CoffeeSize[] SIZES = CoffeeSize.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Coffee> coffees(int count) {
+        List<Coffee> coffees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            coffees.add(Coffee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Coffee " + i)
+                    .size(SIZES[i % SIZES.length])
+                    .price(BigDecimal.valueOf(1000 + i, 2))
+                    .enabled(i % 10 != 0)
+                    .createdAt(LocalDateTime.now().minusDays(i))
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return coffees;
+    }
+
+    static List<Client> clients(int count, int addressesPerClient) {
+        List<Client> clients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Client client = Client.builder()
+                    .id(UUID.randomUUID())
+                    .name("Client " + i)
+                    .email("client" + i + "@coffeestore.com")
+                    .enabled(true)
+                    .createdAt(LocalDateTime.now().minusDays(i))
+                    .build();
+            List<Address> addresses = new ArrayList<>(addressesPerClient);
+            for (int j = 0; j < addressesPerClient; j++) {
+                addresses.add(Address.builder()
+                        .id(UUID.randomUUID())
+                        .street("Rua das Flores")
+                        .number(String.valueOf(100 + j))
+                        .complement("Apto " + j)
+                        .neighborhood("Centro")
+                        .city("Sao Paulo")
+                        .state("SP")
+                        .zipCode("01000-000")
+                        .client(client)
+                        .createdAt(LocalDateTime.now())
+                        .build());
+            }
+            client.setAddresses(addresses);
+            clients.add(client);
+        }
+        return clients;
+    }
+
+    static CoffeeRepository inMemoryCoffeeRepository(List<Coffee> coffees) {
+        return (CoffeeRepository) Proxy.newProxyInstance(
+                CoffeeRepository.class.getClassLoader(),
+                new Class<?>[]{CoffeeRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return coffees;
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> "InMemoryCoffeeRepository";
+                        };
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,58 @@
+package com.leticiapillar.coffeestore.api.benchmarks;
+
+import com.leticiapillar.coffeestore.api.concurrency.SingleFlight;
+import com.leticiapillar.coffeestore.api.config.CoffeeCatalogProperties;
+import com.leticiapillar.coffeestore.api.config.PaginationProperties;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.mappers.CoffeeMapperImpl;
+import com.leticiapillar.coffeestore.api.repositories.CoffeeRepository;
+import com.leticiapillar.coffeestore.api.services.impl.CoffeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoffeeServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int coffeeCount;
+
+    private CoffeeRepository coffeeRepository;
+    private CoffeeServiceImpl warmService;
+
+    @Setup
+    public void setUp() {
+        coffeeRepository = BenchmarkFixtures.inMemoryCoffeeRepository(BenchmarkFixtures.coffees(coffeeCount));
+        warmService = newService();
+        warmService.findAll();
+    }
+
+    @Benchmark
+    public List<CoffeeDTO> findAll() {
+        return warmService.findAll();
+    }
+
+    @Benchmark
+    public List<CoffeeDTO> findAllColdCatalog() {
+        return newService().findAll();
+    }
+
+    private CoffeeServiceImpl newService() {
+        // read-only benchmark: the change feed and event publisher are only touched by writes
+        return new CoffeeServiceImpl(coffeeRepository, new CoffeeMapperImpl(), new PaginationProperties(20, 100), null,
+                null, new SingleFlight<>("coffee.catalog", new SimpleMeterRegistry()),
+                new CoffeeCatalogProperties(Duration.ofSeconds(30)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.leticiapillar.coffeestore.api.benchmarks;
+
+import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.mappers.ClientMapper;
+import com.leticiapillar.coffeestore.api.mappers.ClientMapperImpl;
+import com.leticiapillar.coffeestore.api.mappers.CoffeeMapper;
+import com.leticiapillar.coffeestore.api.mappers.CoffeeMapperImpl;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int coffeeCount;
+
+    @Param({"1", "10"})
+    private int addressesPerClient;
+
+    private final CoffeeMapper coffeeMapper = new CoffeeMapperImpl();
+    private final ClientMapper clientMapper = new ClientMapperImpl();
+
+    private List<Coffee> coffees;
+    private Client client;
+
+    @Setup
+    public void setUp() {
+        coffees = BenchmarkFixtures.coffees(coffeeCount);
+        client = BenchmarkFixtures.clients(1, addressesPerClient).getFirst();
+    }
+
+    @Benchmark
+    public List<CoffeeDTO> coffeeToDTOList() {
+        return coffeeMapper.toDTOList(coffees);
+    }
+
+    @Benchmark
+    public ClientDTO clientToDTO() {
+        return clientMapper.toDTO(client);
+    }
+}
@@ -0,0 +1,68 @@
+package com.leticiapillar.coffeestore.api.benchmarks;
+
+import com.leticiapillar.coffeestore.api.mappers.ClientMapperImpl;
+import com.leticiapillar.coffeestore.api.mappers.CoffeeMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadEncodingBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"identity", "gzip"})
+    private String contentCoding;
+
+    private ObjectMapper objectMapper;
+    private List<?> coffees;
+    private List<?> clients;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = format.equals("cbor") ? CBORMapper.builder().build() : JsonMapper.builder().build();
+        coffees = new CoffeeMapperImpl().toDTOList(BenchmarkFixtures.coffees(size));
+        clients = new ClientMapperImpl().toDTOList(BenchmarkFixtures.clients(size, 2));
+        System.out.printf("%n%s+%s, %d items: coffees %d bytes, clients %d bytes%n",
+                format, contentCoding, size, encodeCoffees().length, encodeClients().length);
+    }
+
+    @Benchmark
+    public byte[] encodeCoffees() throws IOException {
+        return encode(coffees);
+    }
+
+    @Benchmark
+    public byte[] encodeClients() throws IOException {
+        return encode(clients);
+    }
+
+    private byte[] encode(List<?> values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        try (OutputStream outputStream = contentCoding.equals("gzip") ? new GZIPOutputStream(bytes) : bytes) {
+            objectMapper.writeValue(outputStream, values);
+        }
+        return bytes.toByteArray();
+    }
+}
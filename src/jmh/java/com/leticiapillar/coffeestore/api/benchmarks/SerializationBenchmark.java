@@ -0,0 +1,49 @@
+package com.leticiapillar.coffeestore.api.benchmarks;
+
+import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.mappers.ClientMapperImpl;
+import com.leticiapillar.coffeestore.api.mappers.CoffeeMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private List<CoffeeDTO> coffees;
+    private List<ClientDTO> clients;
+
+    @Setup
+    public void setUp() {
+        coffees = new CoffeeMapperImpl().toDTOList(BenchmarkFixtures.coffees(size));
+        clients = new ClientMapperImpl().toDTOList(BenchmarkFixtures.clients(size, 2));
+    }
+
+    @Benchmark
+    public byte[] serializeCoffees() {
+        return objectMapper.writeValueAsBytes(coffees);
+    }
+
+    @Benchmark
+    public byte[] serializeClients() {
+        return objectMapper.writeValueAsBytes(clients);
+    }
+}
@@ -0,0 +1,124 @@
+package com.leticiapillar.coffeestore.api.benchmarks;
+
+import com.leticiapillar.coffeestore.api.identifiers.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Needs the docker-compose Postgres, or BENCHMARK_JDBC_URL / BENCHMARK_JDBC_USER / BENCHMARK_JDBC_PASSWORD.
+// Prints the primary key index size after the preload and after the measured inserts.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidPrimaryKeyBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"v4", "v7"})
+    private String keyType;
+
+    @Param({"10000000"})
+    private int preloadRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private String table;
+
+    @Setup
+    public void setUp() throws SQLException {
+        ids = "v7".equals(keyType) ? UuidV7::generate : UUID::randomUUID;
+        table = "uuid_benchmark_" + keyType;
+        connection = DriverManager.getConnection(
+                env("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5432/coffeestoredb?reWriteBatchedInserts=true"),
+                env("BENCHMARK_JDBC_USER", "coffeestore"),
+                env("BENCHMARK_JDBC_PASSWORD", "coffeestore"));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + table);
+            statement.execute("create table " + table
+                    + " (id uuid primary key, name varchar(255), created_at timestamp(6))");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("insert into " + table + " (id, name, created_at) values (?, ?, ?)");
+        for (int inserted = 0; inserted < preloadRows; inserted += BATCH_SIZE) {
+            insertBatch();
+        }
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("vacuum analyze " + table);
+        }
+        connection.setAutoCommit(false);
+        report("after preload");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        report("after measurement");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table " + table);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertRows() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, ids.get());
+            insert.setString(2, "Coffee " + i);
+            insert.setTimestamp(3, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private void report(String phase) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select count(*), pg_relation_size('" + table + "_pkey'), "
+                     + "pg_size_pretty(pg_relation_size('" + table + "_pkey')) from " + table)) {
+            result.next();
+            System.out.printf("%n%s %s: %d rows, primary key index %s (%d bytes)%n",
+                    table, phase, result.getLong(1), result.getString(3), result.getLong(2));
+        } finally {
+            connection.setAutoCommit(false);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        return System.getenv().getOrDefault(name, defaultValue);
+    }
+}
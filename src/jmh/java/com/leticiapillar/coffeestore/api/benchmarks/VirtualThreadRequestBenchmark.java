@@ -0,0 +1,150 @@
+package com.leticiapillar.coffeestore.api.benchmarks;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Needs the docker-compose Postgres, or BENCHMARK_JDBC_URL / BENCHMARK_JDBC_USER / BENCHMARK_JDBC_PASSWORD.
+// Each operation is one request that borrows a pooled connection and runs a query taking a few milliseconds.
+// "platform" mirrors Tomcat's default 200 worker threads; "virtual" mirrors the virtual-threads profile: a thread
+// per request, gated like ConcurrencyLimitFilter at pool size times requests-per-connection: a request waits up to
+// acquireTimeoutMillis for a permit and is rejected with 503 otherwise. Served and rejected requests are reported
+// as counters next to the throughput, which counts both.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class VirtualThreadRequestBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int POOL_SIZE = 10;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int REQUESTS_PER_CONNECTION = 4;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"0.005"})
+    private double querySeconds;
+
+    // coffeestore.virtual-threads.acquire-timeout
+    @Param({"500"})
+    private long acquireTimeoutMillis;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+    private Semaphore permits;
+
+    @Setup
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(env("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5432/coffeestoredb"));
+        config.setUsername(env("BENCHMARK_JDBC_USER", "coffeestore"));
+        config.setPassword(env("BENCHMARK_JDBC_PASSWORD", "coffeestore"));
+        config.setMaximumPoolSize(POOL_SIZE);
+        dataSource = new HikariDataSource(config);
+        if ("virtual".equals(threads)) {
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            permits = new Semaphore(POOL_SIZE * REQUESTS_PER_CONNECTION, true);
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void handleRequests(Responses responses) throws InterruptedException, ExecutionException {
+        List<Future<Boolean>> pending = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            pending.add(executor.submit(this::handleRequest));
+        }
+        for (Future<Boolean> response : pending) {
+            if (response.get()) {
+                responses.served++;
+            } else {
+                responses.rejected++;
+            }
+        }
+    }
+
+    // false when the request would have been answered with 503
+    private boolean handleRequest() throws SQLException, InterruptedException {
+        if (permits == null) {
+            query();
+            return true;
+        }
+        if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        try {
+            query();
+            return true;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private int query() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select 1 from pg_sleep(?)")) {
+            statement.setDouble(1, querySeconds);
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return result.getInt(1);
+            }
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        return System.getenv().getOrDefault(name, defaultValue);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Responses {
+
+        public long served;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            served = 0;
+            rejected = 0;
+        }
+    }
+}
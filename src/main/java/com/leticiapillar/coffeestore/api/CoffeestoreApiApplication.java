@@ -2,8 +2,10 @@ package com.leticiapillar.coffeestore.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class CoffeestoreApiApplication {
 
 	public static void main(String[] args) {
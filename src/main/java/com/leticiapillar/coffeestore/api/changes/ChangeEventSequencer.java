@@ -0,0 +1,129 @@
+package com.leticiapillar.coffeestore.api.changes;
+
+import com.leticiapillar.coffeestore.api.models.ChangeEvent;
+import com.leticiapillar.coffeestore.api.models.ChangeFeedSequence;
+import com.leticiapillar.coffeestore.api.repositories.ChangeEventRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Stamps feed sequences on committed change events. Uncommitted rows are invisible to the stamping query and
+// the counter row lock lets one instance stamp at a time, so every sequence commits after all lower ones and
+// a reader can never pass a change that commits later.
+@Slf4j
+public class ChangeEventSequencer implements SmartLifecycle {
+
+    private static final int COUNTER_ID = 1;
+
+    private final EntityManager entityManager;
+    private final ChangeEventRepository changeEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate seedTransactionTemplate;
+    private final Duration interval;
+    private final int batchSize;
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private Thread worker;
+
+    public ChangeEventSequencer(EntityManager entityManager, ChangeEventRepository changeEventRepository,
+                                TransactionTemplate transactionTemplate, Duration interval, int batchSize) {
+        this.entityManager = entityManager;
+        this.changeEventRepository = changeEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.seedTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.seedTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.interval = interval;
+        this.batchSize = batchSize;
+    }
+
+    // called after a change commits; the interval also picks up events committed by instances that stopped
+    // before stamping them
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    public int sequencePending() {
+        return transactionTemplate.execute(status -> {
+            ChangeFeedSequence counter = lockCounter();
+            List<ChangeEvent> pending = changeEventRepository.findBySequenceIsNullOrderById(Limit.of(batchSize));
+            long last = counter.getLastSequence();
+            for (ChangeEvent event : pending) {
+                event.setSequence(++last);
+            }
+            counter.setLastSequence(last);
+            return pending.size();
+        });
+    }
+
+    // a missing row cannot be locked, so it is seeded in its own transaction first; when another instance seeds it
+    // at the same time the insert fails and the row it committed is locked instead
+    private ChangeFeedSequence lockCounter() {
+        ChangeFeedSequence counter = entityManager.find(ChangeFeedSequence.class, COUNTER_ID,
+                LockModeType.PESSIMISTIC_WRITE);
+        if (counter != null) {
+            return counter;
+        }
+        try {
+            seedTransactionTemplate.executeWithoutResult(status -> entityManager.persist(
+                    ChangeFeedSequence.builder().id(COUNTER_ID).lastSequence(0).build()));
+        } catch (RuntimeException e) {
+            log.debug("Change feed sequence counter was seeded concurrently", e);
+        }
+        counter = entityManager.find(ChangeFeedSequence.class, COUNTER_ID, LockModeType.PESSIMISTIC_WRITE);
+        if (counter == null) {
+            throw new IllegalStateException("Change feed sequence counter row " + COUNTER_ID + " is missing");
+        }
+        return counter;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("change-event-sequencer").start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        wakeUps.release();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                wakeUps.tryAcquire(interval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            // the wake-ups of every commit so far are served by the pass below
+            wakeUps.drainPermits();
+            try {
+                int stamped;
+                do {
+                    stamped = sequencePending();
+                } while (running && stamped == batchSize);
+            } catch (RuntimeException e) {
+                log.warn("Stamping change event sequences failed, retrying in {}", interval, e);
+            }
+        }
+    }
+}
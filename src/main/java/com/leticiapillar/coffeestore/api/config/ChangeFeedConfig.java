@@ -0,0 +1,22 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import com.leticiapillar.coffeestore.api.changes.ChangeEventSequencer;
+import com.leticiapillar.coffeestore.api.repositories.ChangeEventRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration(proxyBeanMethods = false)
+public class ChangeFeedConfig {
+
+    @Bean
+    ChangeEventSequencer changeEventSequencer(EntityManager entityManager,
+                                              ChangeEventRepository changeEventRepository,
+                                              PlatformTransactionManager transactionManager,
+                                              ChangeFeedProperties properties) {
+        return new ChangeEventSequencer(entityManager, changeEventRepository, new TransactionTemplate(transactionManager),
+                properties.sequencingInterval(), properties.sequencingBatchSize());
+    }
+}
@@ -0,0 +1,13 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("coffeestore.changes")
+public record ChangeFeedProperties(
+        @DefaultValue("1s") Duration sequencingInterval,
+        @DefaultValue("500") int sequencingBatchSize
+) {
+}
@@ -0,0 +1,12 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("coffeestore.coffees.catalog")
+public record CoffeeCatalogProperties(
+        @DefaultValue("30s") Duration timeToLive
+) {
+}
@@ -0,0 +1,19 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import com.leticiapillar.coffeestore.api.streaming.CoffeeStreamBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
+
+@Configuration(proxyBeanMethods = false)
+public class CoffeeStreamConfig {
+
+    @Bean
+    CoffeeStreamBroadcaster coffeeStreamBroadcaster(ObjectMapper objectMapper, CoffeeStreamProperties properties,
+                                                    MeterRegistry meterRegistry) {
+        return new CoffeeStreamBroadcaster(objectMapper, properties.queueCapacity(), properties.maxSubscribers(),
+                properties.heartbeatInterval(), properties.reconnectDelay(), properties.shutdownTimeout(),
+                meterRegistry);
+    }
+}
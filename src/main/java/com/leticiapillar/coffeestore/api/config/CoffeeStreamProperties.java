@@ -0,0 +1,16 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("coffeestore.coffees.stream")
+public record CoffeeStreamProperties(
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("10000") int maxSubscribers,
+        @DefaultValue("20s") Duration heartbeatInterval,
+        @DefaultValue("3s") Duration reconnectDelay,
+        @DefaultValue("5s") Duration shutdownTimeout
+) {
+}
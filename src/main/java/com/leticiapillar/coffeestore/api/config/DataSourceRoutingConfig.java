@@ -0,0 +1,72 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import com.leticiapillar.coffeestore.api.datasource.ReadWriteRoutingDataSource;
+import com.leticiapillar.coffeestore.api.datasource.ReplicaStickiness;
+import com.leticiapillar.coffeestore.api.datasource.ReplicaStickinessFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBooleanProperty("coffeestore.datasource.routing.enabled")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    ReplicaStickiness replicaStickiness(DataSourceRoutingProperties properties) {
+        return new ReplicaStickiness(Clock.systemUTC(), properties.stickyWindow());
+    }
+
+    @Bean
+    FilterRegistrationBean<ReplicaStickinessFilter> replicaStickinessFilter(ReplicaStickiness replicaStickiness,
+                                                                            DataSourceRoutingProperties properties) {
+        FilterRegistrationBean<ReplicaStickinessFilter> registration = new FilterRegistrationBean<>(
+                new ReplicaStickinessFilter(replicaStickiness, properties.stickyWindow()));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        return registration;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("coffeestore.datasource.routing.replica.hikari")
+    HikariDataSource replicaDataSource(DataSourceRoutingProperties properties) {
+        DataSourceRoutingProperties.Replica replica = properties.replica();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.url())
+                .username(replica.username())
+                .password(replica.password())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                          ReplicaStickiness replicaStickiness) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaStickiness));
+    }
+}
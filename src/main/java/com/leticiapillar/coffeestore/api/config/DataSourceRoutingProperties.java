@@ -0,0 +1,17 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("coffeestore.datasource.routing")
+public record DataSourceRoutingProperties(
+        boolean enabled,
+        @DefaultValue("2s") Duration stickyWindow,
+        Replica replica
+) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import com.leticiapillar.coffeestore.api.idempotency.IdempotencyFilter;
+import com.leticiapillar.coffeestore.api.idempotency.IdempotencyStore;
+import com.leticiapillar.coffeestore.api.idempotency.InMemoryIdempotencyStore;
+import com.leticiapillar.coffeestore.api.idempotency.JdbcIdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBooleanProperty(name = "coffeestore.idempotency.enabled", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    IdempotencyStore idempotencyStore(IdempotencyProperties properties, ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        return switch (properties.store()) {
+            case MEMORY -> new InMemoryIdempotencyStore(Clock.systemUTC(), properties.timeToLive(),
+                    properties.inFlightTimeout(), properties.maxEntries());
+            case JDBC -> new JdbcIdempotencyStore(jdbcTemplate.getObject(), Clock.systemUTC(),
+                    properties.timeToLive(), properties.inFlightTimeout());
+        };
+    }
+
+    @Bean
+    FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                IdempotencyProperties properties,
+                                                                MeterRegistry meterRegistry) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, properties.waitTimeout(), meterRegistry));
+        registration.addUrlPatterns("/api/coffees/*", "/api/clients/*", "/api/orders/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,22 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("coffeestore.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("memory") Store store,
+        @DefaultValue("24h") Duration timeToLive,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("30s") Duration inFlightTimeout,
+        @DefaultValue("5s") Duration waitTimeout
+) {
+
+    public enum Store {
+        MEMORY,
+        JDBC
+    }
+}
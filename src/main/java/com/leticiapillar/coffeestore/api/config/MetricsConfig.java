@@ -0,0 +1,34 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import com.leticiapillar.coffeestore.api.metrics.HibernateStatementMetrics;
+import com.leticiapillar.coffeestore.api.metrics.StatementCountFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    @Bean
+    HibernateStatementMetrics hibernateStatementMetrics(MeterRegistry meterRegistry) {
+        return new HibernateStatementMetrics(meterRegistry);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementInspectorCustomizer(HibernateStatementMetrics statementMetrics) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementMetrics);
+    }
+
+    @Bean
+    FilterRegistrationBean<StatementCountFilter> statementCountFilter(HibernateStatementMetrics statementMetrics) {
+        FilterRegistrationBean<StatementCountFilter> registration =
+                new FilterRegistrationBean<>(new StatementCountFilter(statementMetrics));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,20 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import com.leticiapillar.coffeestore.api.orders.OrderBatchWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration(proxyBeanMethods = false)
+public class OrderPipelineConfig {
+
+    @Bean
+    OrderBatchWriter orderBatchWriter(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                      OrderProperties properties, MeterRegistry meterRegistry) {
+        return new OrderBatchWriter(entityManager, new TransactionTemplate(transactionManager),
+                properties.queueCapacity(), properties.batchSize(), properties.shutdownTimeout(), meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("coffeestore.orders")
+public record OrderProperties(
+        @DefaultValue("20000") int queueCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("50") int maxItems,
+        @DefaultValue("30s") Duration shutdownTimeout
+) {
+}
@@ -0,0 +1,18 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("coffeestore.pagination")
+public record PaginationProperties(
+        @DefaultValue("20") int defaultSize,
+        @DefaultValue("100") int maxSize
+) {
+
+    public int resolve(Integer requestedSize) {
+        if (requestedSize == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(requestedSize, maxSize));
+    }
+}
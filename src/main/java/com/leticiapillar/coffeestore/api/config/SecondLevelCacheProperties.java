@@ -0,0 +1,16 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("coffeestore.second-level-cache")
+public record SecondLevelCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration timeToLive,
+        @DefaultValue("10000") long maxEntries,
+        @DefaultValue("1m") Duration queryTimeToLive,
+        @DefaultValue("1000") long queryMaxEntries
+) {
+}
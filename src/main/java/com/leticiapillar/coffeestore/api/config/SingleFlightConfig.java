@@ -0,0 +1,26 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import com.leticiapillar.coffeestore.api.concurrency.SingleFlight;
+import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Configuration(proxyBeanMethods = false)
+public class SingleFlightConfig {
+
+    @Bean
+    SingleFlight<Long, List<CoffeeDTO>> coffeeCatalogLoads(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("coffee.catalog", meterRegistry);
+    }
+
+    @Bean
+    SingleFlight<UUID, Optional<ClientDTO>> clientLookups(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("client.findById", meterRegistry);
+    }
+}
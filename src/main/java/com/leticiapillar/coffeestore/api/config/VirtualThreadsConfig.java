@@ -0,0 +1,62 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import com.leticiapillar.coffeestore.api.concurrency.ConcurrencyLimitFilter;
+import com.leticiapillar.coffeestore.api.concurrency.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                                            VirtualThreadsProperties properties) {
+        return new VirtualThreadPinningMonitor(meterRegistry, properties.pinningThreshold());
+    }
+
+    @Bean
+    FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(DataSource dataSource,
+                                                                          VirtualThreadsProperties properties,
+                                                                          MeterRegistry meterRegistry) {
+        int poolSize = maximumPoolSize(dataSource);
+        int maxConcurrentRequests = poolSize * properties.requestsPerConnection();
+        log.info("Virtual threads enabled: limiting to {} concurrent API requests for a pool of {} connections",
+                maxConcurrentRequests, poolSize);
+
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(maxConcurrentRequests, properties.acquireTimeout());
+        Gauge.builder("http.server.requests.permits.available", filter, ConcurrencyLimitFilter::availablePermits)
+                .description("Request permits left before new API requests are rejected")
+                .register(meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariConfigMXBean.class)) {
+                return dataSource.unwrap(HikariConfigMXBean.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not read the connection pool size, assuming {}", HIKARI_DEFAULT_POOL_SIZE, e);
+        }
+        return HIKARI_DEFAULT_POOL_SIZE;
+    }
+}
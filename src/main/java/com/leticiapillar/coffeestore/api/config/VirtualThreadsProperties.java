@@ -0,0 +1,14 @@
+package com.leticiapillar.coffeestore.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("coffeestore.virtual-threads")
+public record VirtualThreadsProperties(
+        @DefaultValue("20ms") Duration pinningThreshold,
+        @DefaultValue("4") int requestsPerConnection,
+        @DefaultValue("500ms") Duration acquireTimeout
+) {
+}
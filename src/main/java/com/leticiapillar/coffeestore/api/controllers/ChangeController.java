@@ -0,0 +1,24 @@
+package com.leticiapillar.coffeestore.api.controllers;
+
+import com.leticiapillar.coffeestore.api.dtos.ChangeFeedDTO;
+import com.leticiapillar.coffeestore.api.services.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping
+    public ResponseEntity<ChangeFeedDTO> findSince(@RequestParam(defaultValue = "0") long since,
+                                                   @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(changeFeedService.findSince(since, size));
+    }
+}
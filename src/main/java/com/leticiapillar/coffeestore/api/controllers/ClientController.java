@@ -1,11 +1,17 @@
 package com.leticiapillar.coffeestore.api.controllers;
 
+import com.leticiapillar.coffeestore.api.caching.ETags;
 import com.leticiapillar.coffeestore.api.dtos.AddressCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.AddressDTO;
 import com.leticiapillar.coffeestore.api.dtos.ClientCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.dtos.CursorPageDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupRequestDTO;
 import com.leticiapillar.coffeestore.api.services.ClientService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +19,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -27,19 +40,52 @@ import java.util.UUID;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     public ResponseEntity<List<ClientDTO>> findAll() {
         return ResponseEntity.ok(clientService.findAll());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<ClientDTO>> findPage(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(clientService.findPage(cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> clientService.exportAll(client -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(client));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ClientDTO>> search(@RequestParam("q") String query,
+                                                  @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(clientService.search(query, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ClientDTO> findById(@PathVariable UUID id) {
         return clientService.findById(id)
-                .map(ResponseEntity::ok)
+                .map(client -> ResponseEntity.ok().eTag(ETags.of(client)).body(client))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/lookup")
+    public ResponseEntity<List<LookupEntryDTO<ClientDTO>>> lookup(@RequestBody LookupRequestDTO request) {
+        return ResponseEntity.ok(clientService.findAllById(request.ids() == null ? List.of() : request.ids()));
+    }
+
     @PostMapping
     public ResponseEntity<Void> create(@RequestBody ClientCrudDTO dto) {
         ClientDTO createdClient = clientService.create(dto);
@@ -51,22 +97,29 @@ public class ClientController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ClientDTO> update(@PathVariable UUID id, @RequestBody ClientCrudDTO dto) {
-        return clientService.update(id, dto)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<ClientDTO> update(@PathVariable UUID id,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                            @RequestBody ClientCrudDTO dto) {
+        Optional<ClientDTO> updated = ifMatch == null
+                ? clientService.update(id, dto)
+                : clientService.update(id, dto, ifMatch);
+        return updated
+                .map(client -> ResponseEntity.ok().eTag(ETags.of(client)).body(client))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}/activate")
     public ResponseEntity<Void> activate(@PathVariable UUID id) {
-        clientService.activate(id);
-        return ResponseEntity.noContent().build();
+        return clientService.activate(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
     }
 
     @DeleteMapping("/{id}/inactivate")
     public ResponseEntity<Void> inactivate(@PathVariable UUID id) {
-        clientService.inactivate(id);
-        return ResponseEntity.noContent().build();
+        return clientService.inactivate(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
     }
 
     @GetMapping("/{id}/addresses")
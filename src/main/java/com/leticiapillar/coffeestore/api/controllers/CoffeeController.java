@@ -1,22 +1,42 @@
 package com.leticiapillar.coffeestore.api.controllers;
 
+import com.leticiapillar.coffeestore.api.caching.ETags;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeCatalogDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuFilterDTO;
+import com.leticiapillar.coffeestore.api.dtos.CursorPageDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
+import com.leticiapillar.coffeestore.api.enums.CoffeeMenuSort;
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
 import com.leticiapillar.coffeestore.api.services.CoffeeService;
+import com.leticiapillar.coffeestore.api.streaming.CoffeeStreamBroadcaster;
+import com.leticiapillar.coffeestore.api.streaming.StreamCapacityExceededException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -25,16 +45,52 @@ import java.util.UUID;
 public class CoffeeController {
 
     private final CoffeeService coffeeService;
+    private final CoffeeStreamBroadcaster coffeeStreamBroadcaster;
 
     @GetMapping
     public ResponseEntity<List<CoffeeDTO>> findAll() {
-        return ResponseEntity.ok(coffeeService.findAll());
+        CoffeeCatalogDTO catalog = coffeeService.findCatalog();
+        return ResponseEntity.ok()
+                .eTag(catalog.version())
+                .body(catalog.coffees());
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<LookupEntryDTO<CoffeeDTO>>> findAllById(@RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(coffeeService.findAllById(ids));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return coffeeStreamBroadcaster.subscribe(coffeeService::findCatalog);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<CoffeeDTO>> findPage(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(coffeeService.findPage(cursor, size));
+    }
+
+    @GetMapping("/menu")
+    public ResponseEntity<CoffeeMenuDTO> findMenu(@RequestParam(required = false) CoffeeSize size,
+                                                  @RequestParam(required = false) BigDecimal minPrice,
+                                                  @RequestParam(required = false) BigDecimal maxPrice,
+                                                  @RequestParam(defaultValue = "NAME") CoffeeMenuSort sort,
+                                                  @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        return ResponseEntity.ok(coffeeService.findMenu(
+                new CoffeeMenuFilterDTO(size, minPrice, maxPrice, sort, direction)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<CoffeeDTO>> search(@RequestParam("q") String query,
+                                                  @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(coffeeService.search(query, size));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<CoffeeDTO> findById(@PathVariable UUID id) {
         return coffeeService.findById(id)
-                .map(ResponseEntity::ok)
+                .map(coffee -> ResponseEntity.ok().eTag(ETags.of(coffee)).body(coffee))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -48,23 +104,42 @@ public class CoffeeController {
         return ResponseEntity.created(location).build();
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<UUID>> createAll(@RequestBody List<CoffeeCrudDTO> dtos) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(coffeeService.createAll(dtos));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<CoffeeDTO> update(@PathVariable UUID id, @RequestBody CoffeeCrudDTO dto) {
-        return coffeeService.update(id, dto)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<CoffeeDTO> update(@PathVariable UUID id,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                            @RequestBody CoffeeCrudDTO dto) {
+        Optional<CoffeeDTO> updated = ifMatch == null
+                ? coffeeService.update(id, dto)
+                : coffeeService.update(id, dto, ifMatch);
+        return updated
+                .map(coffee -> ResponseEntity.ok().eTag(ETags.of(coffee)).body(coffee))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}/activate")
     public ResponseEntity<Void> activate(@PathVariable UUID id) {
-        coffeeService.activate(id);
-        return ResponseEntity.noContent().build();
+        return coffeeService.activate(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
     }
 
     @DeleteMapping("/{id}/inactivate")
     public ResponseEntity<Void> inactivate(@PathVariable UUID id) {
-        coffeeService.inactivate(id);
-        return ResponseEntity.noContent().build();
+        return coffeeService.inactivate(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @ExceptionHandler(StreamCapacityExceededException.class)
+    public ResponseEntity<Void> handleStreamCapacityExceeded() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
     }
 
 }
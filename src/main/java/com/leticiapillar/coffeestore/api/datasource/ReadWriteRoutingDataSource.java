@@ -0,0 +1,32 @@
+package com.leticiapillar.coffeestore.api.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Needs a LazyConnectionDataSourceProxy in front so the route is picked once the transaction is read-only.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaStickiness stickiness;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaStickiness stickiness) {
+        this.stickiness = stickiness;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !stickiness.isSticky()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
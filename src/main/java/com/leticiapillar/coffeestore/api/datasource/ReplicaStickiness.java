@@ -0,0 +1,66 @@
+package com.leticiapillar.coffeestore.api.datasource;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+// Stickiness belongs to a caller: a request opens a scope carrying the deadline its client last saw, so writes
+// made by other callers or by background work (such as the order writer) never pull its reads off the replica.
+public class ReplicaStickiness implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final Clock clock;
+    private final long windowMillis;
+
+    public ReplicaStickiness(Clock clock, Duration window) {
+        this.clock = clock;
+        this.windowMillis = window.toMillis();
+    }
+
+    // onWrite receives the new deadline (epoch millis) so it can be handed back to the client
+    public Scope open(long stickyUntil, LongConsumer onWrite) {
+        Scope scope = new Scope(CURRENT.get(), stickyUntil, onWrite);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        Scope scope = CURRENT.get();
+        if (scope != null && commitFailure == null && !transaction.isReadOnly()) {
+            scope.stickyUntil = clock.millis() + windowMillis;
+            scope.onWrite.accept(scope.stickyUntil);
+        }
+    }
+
+    public boolean isSticky() {
+        Scope scope = CURRENT.get();
+        return scope != null && clock.millis() < scope.stickyUntil;
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final Scope previous;
+        private final LongConsumer onWrite;
+        private long stickyUntil;
+
+        private Scope(Scope previous, long stickyUntil, LongConsumer onWrite) {
+            this.previous = previous;
+            this.stickyUntil = stickyUntil;
+            this.onWrite = onWrite;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
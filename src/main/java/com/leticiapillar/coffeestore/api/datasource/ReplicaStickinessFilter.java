@@ -0,0 +1,60 @@
+package com.leticiapillar.coffeestore.api.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// The deadline travels in a cookie so a client reads its own writes from the primary on whichever instance it hits.
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "coffeestore-primary-until";
+
+    private final ReplicaStickiness stickiness;
+    private final int cookieMaxAge;
+
+    public ReplicaStickinessFilter(ReplicaStickiness stickiness, Duration window) {
+        this.stickiness = stickiness;
+        this.cookieMaxAge = (int) Math.max(1, window.toSeconds() + 1);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // the commit happens in the service call, before the body is written, so the cookie can still be added
+        try (ReplicaStickiness.Scope ignored = stickiness.open(stickyUntil(request),
+                until -> response.addCookie(cookie(until)))) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private Cookie cookie(long until) {
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(cookieMaxAge);
+        return cookie;
+    }
+}
@@ -0,0 +1,17 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ChangeEventDTO(
+        Long sequence,
+        ChangeEntityType entityType,
+        UUID entityId,
+        UUID parentId,
+        ChangeType changeType,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import java.util.List;
+
+public record ChangeFeedDTO(
+        List<ChangeEventDTO> changes,
+        long next
+) {
+}
@@ -12,6 +12,7 @@ public record ClientDTO(
         List<AddressDTO> addresses,
         boolean enabled,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {
 }
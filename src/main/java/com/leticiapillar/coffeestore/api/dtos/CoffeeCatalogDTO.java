@@ -0,0 +1,9 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import java.util.List;
+
+public record CoffeeCatalogDTO(
+        String version,
+        List<CoffeeDTO> coffees
+) {
+}
@@ -13,6 +13,7 @@ public record CoffeeDTO(
         BigDecimal price,
         boolean enabled,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {
 }
@@ -0,0 +1,12 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+
+import java.util.List;
+import java.util.Map;
+
+public record CoffeeMenuDTO(
+        List<CoffeeDTO> coffees,
+        Map<CoffeeSize, Long> sizeFacets
+) {
+}
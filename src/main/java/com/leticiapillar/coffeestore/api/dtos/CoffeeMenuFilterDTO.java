@@ -0,0 +1,16 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import com.leticiapillar.coffeestore.api.enums.CoffeeMenuSort;
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+public record CoffeeMenuFilterDTO(
+        CoffeeSize size,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        CoffeeMenuSort sort,
+        Sort.Direction direction
+) {
+}
@@ -0,0 +1,9 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import java.util.List;
+
+public record CursorPageDTO<T>(
+        List<T> content,
+        String nextCursor
+) {
+}
@@ -0,0 +1,14 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import java.util.UUID;
+
+public record LookupEntryDTO<T>(
+        UUID id,
+        boolean found,
+        T value
+) {
+
+    public static <T> LookupEntryDTO<T> of(UUID id, T value) {
+        return new LookupEntryDTO<>(id, value != null, value);
+    }
+}
@@ -0,0 +1,9 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import java.util.List;
+import java.util.UUID;
+
+public record LookupRequestDTO(
+        List<UUID> ids
+) {
+}
@@ -0,0 +1,10 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import java.util.List;
+import java.util.UUID;
+
+public record OrderCrudDTO(
+        UUID clientId,
+        List<OrderItemCrudDTO> items
+) {
+}
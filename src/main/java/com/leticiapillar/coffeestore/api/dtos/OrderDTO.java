@@ -0,0 +1,18 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import com.leticiapillar.coffeestore.api.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record OrderDTO(
+        UUID id,
+        UUID clientId,
+        OrderStatus status,
+        List<OrderItemDTO> items,
+        BigDecimal total,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import java.util.UUID;
+
+public record OrderItemCrudDTO(
+        UUID coffeeId,
+        Integer quantity
+) {
+}
@@ -0,0 +1,12 @@
+package com.leticiapillar.coffeestore.api.dtos;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record OrderItemDTO(
+        UUID id,
+        UUID coffeeId,
+        Integer quantity,
+        BigDecimal unitPrice
+) {
+}
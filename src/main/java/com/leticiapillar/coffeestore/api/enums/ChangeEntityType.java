@@ -0,0 +1,5 @@
+package com.leticiapillar.coffeestore.api.enums;
+
+public enum ChangeEntityType {
+    COFFEE, CLIENT, ADDRESS;
+}
@@ -0,0 +1,5 @@
+package com.leticiapillar.coffeestore.api.enums;
+
+public enum ChangeType {
+    CREATED, UPDATED, ACTIVATED, INACTIVATED, DELETED;
+}
@@ -0,0 +1,17 @@
+package com.leticiapillar.coffeestore.api.enums;
+
+public enum CoffeeMenuSort {
+    NAME("name"),
+    PRICE("price"),
+    CREATED_AT("createdAt");
+
+    private final String property;
+
+    CoffeeMenuSort(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+}
@@ -0,0 +1,11 @@
+package com.leticiapillar.coffeestore.api.idempotency;
+
+public record IdempotencyRecord(
+        String fingerprint,
+        IdempotentResponse response
+) {
+
+    public boolean completed() {
+        return response != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.leticiapillar.coffeestore.api.idempotency;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    // empty when the caller now owns the key, otherwise the record left by the request that does
+    Optional<IdempotencyRecord> claim(String key, String fingerprint);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    void complete(String key, IdempotentResponse response);
+
+    void release(String key);
+}
@@ -0,0 +1,10 @@
+package com.leticiapillar.coffeestore.api.idempotency;
+
+import java.util.Map;
+
+public record IdempotentResponse(
+        int status,
+        Map<String, String> headers,
+        byte[] body
+) {
+}
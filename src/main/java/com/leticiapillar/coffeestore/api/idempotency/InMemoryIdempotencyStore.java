@@ -0,0 +1,76 @@
+package com.leticiapillar.coffeestore.api.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final Duration inFlightTimeout;
+    private final Map<String, Entry> entries;
+
+    public InMemoryIdempotencyStore(Clock clock, Duration timeToLive, Duration inFlightTimeout, int maxEntries) {
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.inFlightTimeout = inFlightTimeout;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        Entry entry = live(key);
+        if (entry != null) {
+            return Optional.of(entry.record());
+        }
+        entries.put(key, new Entry(new IdempotencyRecord(fingerprint, null), clock.instant().plus(inFlightTimeout)));
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized Optional<IdempotencyRecord> find(String key) {
+        return Optional.ofNullable(live(key)).map(Entry::record);
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotentResponse response) {
+        Entry entry = live(key);
+        if (entry != null && !entry.record().completed()) {
+            entries.put(key, new Entry(new IdempotencyRecord(entry.record().fingerprint(), response),
+                    clock.instant().plus(timeToLive)));
+        }
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.record().completed()) {
+            entries.remove(key);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Entry live(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private record Entry(IdempotencyRecord record, Instant expiresAt) {
+    }
+}
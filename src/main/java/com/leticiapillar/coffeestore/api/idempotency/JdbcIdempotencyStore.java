@@ -0,0 +1,109 @@
+package com.leticiapillar.coffeestore.api.idempotency;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final int PURGE_EVERY_CLAIMS = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final Duration inFlightTimeout;
+    private final AtomicLong claims = new AtomicLong();
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Clock clock, Duration timeToLive, Duration inFlightTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.inFlightTimeout = inFlightTimeout;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        if (claims.incrementAndGet() % PURGE_EVERY_CLAIMS == 0) {
+            purgeExpired();
+        }
+        while (true) {
+            Timestamp now = now();
+            jdbcTemplate.update("delete from idempotency_key where idempotency_key = ? and expires_at <= ?", key, now);
+            try {
+                jdbcTemplate.update(
+                        "insert into idempotency_key (idempotency_key, fingerprint, expires_at) values (?, ?, ?)",
+                        key, fingerprint, expiresAfter(inFlightTimeout));
+                return Optional.empty();
+            } catch (DuplicateKeyException e) {
+                Optional<IdempotencyRecord> existing = find(key);
+                if (existing.isPresent()) {
+                    return existing;
+                }
+                // the owner released or the row expired in between, try to take it over
+            }
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        return jdbcTemplate.query(
+                "select fingerprint, status, headers, body from idempotency_key where idempotency_key = ? and expires_at > ?",
+                (rs, rowNum) -> {
+                    int status = rs.getInt("status");
+                    IdempotentResponse response = rs.wasNull()
+                            ? null
+                            : new IdempotentResponse(status, parseHeaders(rs.getString("headers")), rs.getBytes("body"));
+                    return new IdempotencyRecord(rs.getString("fingerprint"), response);
+                },
+                key, now()).stream().findFirst();
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        jdbcTemplate.update(
+                "update idempotency_key set status = ?, headers = ?, body = ?, expires_at = ? where idempotency_key = ? and status is null",
+                response.status(), formatHeaders(response.headers()), response.body(), expiresAfter(timeToLive), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("delete from idempotency_key where idempotency_key = ? and status is null", key);
+    }
+
+    public int purgeExpired() {
+        return jdbcTemplate.update("delete from idempotency_key where expires_at <= ?", now());
+    }
+
+    private Timestamp now() {
+        return Timestamp.from(clock.instant());
+    }
+
+    private Timestamp expiresAfter(Duration duration) {
+        return Timestamp.from(clock.instant().plus(duration));
+    }
+
+    private static String formatHeaders(Map<String, String> headers) {
+        return headers.entrySet().stream()
+                .map(header -> header.getKey() + ": " + header.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static Map<String, String> parseHeaders(String headers) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        if (headers != null && !headers.isEmpty()) {
+            for (String line : headers.split("\n")) {
+                int separator = line.indexOf(": ");
+                parsed.put(line.substring(0, separator), line.substring(separator + 2));
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,44 @@
+package com.leticiapillar.coffeestore.api.identifiers;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidV7 {
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int COUNTER_BITS = 12;
+
+    // unix millis in the high bits, a 12-bit counter in the low bits (RFC 9562, method 1)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long timestampAndCounter = next(System.currentTimeMillis());
+        long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        long counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+        long mostSignificantBits = (timestamp << 16) | VERSION | counter;
+        long leastSignificantBits = (ThreadLocalRandom.current().nextLong() & RANDOM_B_MASK) | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long next(long now) {
+        long candidate = now << COUNTER_BITS;
+        while (true) {
+            long last = LAST.get();
+            // the counter overflowing into the timestamp keeps ids increasing on bursts and clock steps back
+            long next = Math.max(candidate, last + 1);
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
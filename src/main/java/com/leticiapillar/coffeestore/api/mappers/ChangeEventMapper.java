@@ -0,0 +1,13 @@
+package com.leticiapillar.coffeestore.api.mappers;
+
+import com.leticiapillar.coffeestore.api.dtos.ChangeEventDTO;
+import com.leticiapillar.coffeestore.api.models.ChangeEvent;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ChangeEventMapper {
+    ChangeEventDTO toDTO(ChangeEvent event);
+    List<ChangeEventDTO> toDTOList(List<ChangeEvent> events);
+}
@@ -1,5 +1,6 @@
 package com.leticiapillar.coffeestore.api.mappers;
 
+import com.leticiapillar.coffeestore.api.dtos.AddressDTO;
 import com.leticiapillar.coffeestore.api.dtos.ClientCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
 import com.leticiapillar.coffeestore.api.models.Client;
@@ -11,7 +12,20 @@ import java.util.List;
 @Mapper(componentModel = "spring")
 public interface ClientMapper {
     ClientDTO toDTO(Client client);
+    ClientCrudDTO toCrudDTO(Client client);
     Client toModel(ClientCrudDTO dto);
     List<ClientDTO> toDTOList(List<Client> clients);
     void updateEntityFromDto(ClientCrudDTO dto, @MappingTarget Client client);
+
+    default ClientDTO toDTO(Client client, List<AddressDTO> addresses) {
+        return new ClientDTO(
+                client.getId(),
+                client.getName(),
+                client.getEmail(),
+                addresses,
+                client.isEnabled(),
+                client.getCreatedAt(),
+                client.getUpdatedAt(),
+                client.getVersion());
+    }
 }
@@ -11,6 +11,7 @@ import java.util.List;
 @Mapper(componentModel = "spring")
 public interface CoffeeMapper {
     CoffeeDTO toDTO(Coffee coffee);
+    CoffeeCrudDTO toCrudDTO(Coffee coffee);
     Coffee toModel(CoffeeCrudDTO dto);
     List<CoffeeDTO> toDTOList(List<Coffee> coffees);
     void updateEntityFromDto(CoffeeCrudDTO dto, @MappingTarget Coffee coffee);
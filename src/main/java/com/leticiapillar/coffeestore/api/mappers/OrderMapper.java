@@ -0,0 +1,16 @@
+package com.leticiapillar.coffeestore.api.mappers;
+
+import com.leticiapillar.coffeestore.api.dtos.OrderDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderItemDTO;
+import com.leticiapillar.coffeestore.api.models.Order;
+import com.leticiapillar.coffeestore.api.models.OrderItem;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface OrderMapper {
+    @Mapping(target = "clientId", source = "client.id")
+    OrderDTO toDTO(Order order);
+    @Mapping(target = "coffeeId", source = "coffee.id")
+    OrderItemDTO toDTO(OrderItem item);
+}
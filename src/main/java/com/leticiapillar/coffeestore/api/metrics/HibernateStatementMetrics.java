@@ -0,0 +1,50 @@
+package com.leticiapillar.coffeestore.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class HibernateStatementMetrics implements StatementInspector {
+
+    private static final ThreadLocal<int[]> REQUEST_STATEMENTS = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter statements;
+
+    public HibernateStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.statements = Counter.builder("hibernate.statements")
+                .description("SQL statements prepared by Hibernate")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statements.increment();
+        int[] requestStatements = REQUEST_STATEMENTS.get();
+        if (requestStatements != null) {
+            requestStatements[0]++;
+        }
+        return sql;
+    }
+
+    void startRequest() {
+        REQUEST_STATEMENTS.set(new int[1]);
+    }
+
+    void finishRequest(String method, String uri) {
+        int[] requestStatements = REQUEST_STATEMENTS.get();
+        REQUEST_STATEMENTS.remove();
+        if (requestStatements == null) {
+            return;
+        }
+        DistributionSummary.builder("hibernate.statements.per.request")
+                .description("SQL statements prepared by Hibernate while handling a request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(requestStatements[0]);
+    }
+}
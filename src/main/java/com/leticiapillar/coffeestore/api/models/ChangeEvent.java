@@ -0,0 +1,48 @@
+package com.leticiapillar.coffeestore.api.models;
+
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "change_event")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ChangeEvent {
+    // a pooled sequence, so the outbox rows of a request are inserted in one batch; ids follow insert order,
+    // not commit order, so readers page by sequence instead
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_event_id")
+    @SequenceGenerator(name = "change_event_id", sequenceName = "change_event_id_seq", allocationSize = 50)
+    private Long id;
+    // stamped by ChangeEventSequencer once the row has committed, so it follows commit order
+    @Column(unique = true)
+    private Long sequence;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ChangeEntityType entityType;
+    private UUID entityId;
+    private UUID parentId;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ChangeType changeType;
+    private LocalDateTime occurredAt;
+
+}
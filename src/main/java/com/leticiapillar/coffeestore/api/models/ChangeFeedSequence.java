@@ -0,0 +1,23 @@
+package com.leticiapillar.coffeestore.api.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// a single row; locking it serializes the sequencers of all instances
+@Entity
+@Table(name = "change_feed_sequence")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ChangeFeedSequence {
+    @Id
+    private Integer id;
+    private long lastSequence;
+
+}
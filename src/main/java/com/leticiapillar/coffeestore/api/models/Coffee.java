@@ -1,22 +1,29 @@
 package com.leticiapillar.coffeestore.api.models;
 
 import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.identifiers.TimeOrderedUuid;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
@@ -25,27 +32,41 @@ import java.util.UUID;
 @AllArgsConstructor
 @Data
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 public class Coffee {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
+    @Column(length = 120)
     private String name;
     @Enumerated(EnumType.STRING)
+    @Column(length = 20)
     private CoffeeSize size;
+    @Column(precision = 10, scale = 2)
     private BigDecimal price;
     private boolean enabled;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 
     @PrePersist
     private void prePersist() {
         enabled = true;
-        createdAt = LocalDateTime.now();
+        createdAt = now();
     }
 
     @PreUpdate
     private void preUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = now();
+    }
+
+    // truncated to what the column stores, so a coffee hashes to the same ETag before and after a reload
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
 }
@@ -0,0 +1,48 @@
+package com.leticiapillar.coffeestore.api.models;
+
+import com.leticiapillar.coffeestore.api.enums.OrderStatus;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// ORDER is a reserved word in JPQL
+@Entity(name = "CustomerOrder")
+@Table(name = "orders")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class Order {
+    // assigned when the order is taken, so the id can be returned before the row is written
+    @Id
+    private UUID id;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "client_id")
+    private Client client;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus status;
+    @Column(precision = 10, scale = 2)
+    private BigDecimal total;
+    @OneToMany(mappedBy = "order", cascade = CascadeType.PERSIST)
+    private List<OrderItem> items;
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,190 @@
+package com.leticiapillar.coffeestore.api.orders;
+
+import com.leticiapillar.coffeestore.api.dtos.OrderDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderItemDTO;
+import com.leticiapillar.coffeestore.api.enums.OrderStatus;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import com.leticiapillar.coffeestore.api.models.Order;
+import com.leticiapillar.coffeestore.api.models.OrderItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class OrderBatchWriter implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final BlockingQueue<OrderDTO> queue;
+    private final Map<UUID, OrderDTO> pending = new ConcurrentHashMap<>();
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final Counter written;
+    private final Counter dropped;
+    private final DistributionSummary batchSizes;
+    private final Timer commits;
+    private volatile boolean running;
+    private Thread worker;
+
+    public OrderBatchWriter(EntityManager entityManager, TransactionTemplate transactionTemplate, int queueCapacity,
+                            int batchSize, Duration shutdownTimeout, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        Gauge.builder("orders.queue.size", queue, BlockingQueue::size)
+                .description("Orders taken but not yet written")
+                .register(meterRegistry);
+        this.written = Counter.builder("orders.written").register(meterRegistry);
+        this.dropped = Counter.builder("orders.dropped")
+                .description("Orders that could not be written even on their own")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("orders.batch.size").register(meterRegistry);
+        this.commits = Timer.builder("orders.batch.commit").register(meterRegistry);
+    }
+
+    public boolean offer(OrderDTO order) {
+        if (!running) {
+            return false;
+        }
+        pending.put(order.id(), order);
+        if (queue.offer(order)) {
+            return true;
+        }
+        pending.remove(order.id());
+        return false;
+    }
+
+    public Optional<OrderDTO> findPending(UUID id) {
+        return Optional.ofNullable(pending.get(id));
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("order-batch-writer").start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        try {
+            if (!worker.join(shutdownTimeout)) {
+                log.warn("Order writer did not drain within {}, {} orders were not written", shutdownTimeout, queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // stop after the web server so orders accepted during graceful shutdown are still drained
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        List<OrderDTO> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                OrderDTO first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Order writer interrupted, {} orders were not written", queue.size());
+                return;
+            }
+            // everything that queued up while the previous batch was committing goes into this transaction
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<OrderDTO> batch) {
+        batchSizes.record(batch.size());
+        try {
+            commits.record(() -> transactionTemplate.executeWithoutResult(status -> persist(batch)));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Writing a batch of {} orders failed, retrying them one at a time", batch.size(), e);
+            batch.forEach(this::writeAlone);
+        } finally {
+            batch.forEach(order -> pending.remove(order.id()));
+        }
+    }
+
+    private void writeAlone(OrderDTO order) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(List.of(order)));
+            written.increment();
+        } catch (RuntimeException e) {
+            dropped.increment();
+            log.error("Dropping order {} that could not be written", order.id(), e);
+        }
+    }
+
+    // persist rather than save: the ids are assigned, so save would merge and select every order first
+    private void persist(List<OrderDTO> orders) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        for (OrderDTO order : orders) {
+            entityManager.persist(toModel(order));
+        }
+    }
+
+    private Order toModel(OrderDTO dto) {
+        Order order = Order.builder()
+                .id(dto.id())
+                .client(entityManager.getReference(Client.class, dto.clientId()))
+                .status(OrderStatus.PLACED)
+                .total(dto.total())
+                .createdAt(dto.createdAt())
+                .build();
+        List<OrderItem> items = new ArrayList<>(dto.items().size());
+        for (OrderItemDTO item : dto.items()) {
+            items.add(OrderItem.builder()
+                    .id(item.id())
+                    .order(order)
+                    .coffee(entityManager.getReference(Coffee.class, item.coffeeId()))
+                    .quantity(item.quantity())
+                    .unitPrice(item.unitPrice())
+                    .build());
+        }
+        order.setItems(items);
+        return order;
+    }
+}
@@ -0,0 +1,8 @@
+package com.leticiapillar.coffeestore.api.orders;
+
+public class OrderQueueFullException extends RuntimeException {
+
+    public OrderQueueFullException() {
+        super("The order queue is full");
+    }
+}
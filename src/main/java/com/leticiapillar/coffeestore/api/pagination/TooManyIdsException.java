@@ -0,0 +1,12 @@
+package com.leticiapillar.coffeestore.api.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class TooManyIdsException extends RuntimeException {
+
+    public TooManyIdsException(int maxIds) {
+        super("At most " + maxIds + " ids can be looked up at once");
+    }
+}
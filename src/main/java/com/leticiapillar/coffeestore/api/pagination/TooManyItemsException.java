@@ -0,0 +1,12 @@
+package com.leticiapillar.coffeestore.api.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class TooManyItemsException extends RuntimeException {
+
+    public TooManyItemsException(int maxItems) {
+        super("At most " + maxItems + " items can be sent at once");
+    }
+}
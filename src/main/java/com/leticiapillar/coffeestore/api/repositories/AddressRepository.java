@@ -1,11 +1,18 @@
 package com.leticiapillar.coffeestore.api.repositories;
 
 import com.leticiapillar.coffeestore.api.models.Address;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface AddressRepository extends JpaRepository<Address, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Address> findByClientId(UUID id);
+
+    List<Address> findByClientIdIn(Collection<UUID> ids);
 }
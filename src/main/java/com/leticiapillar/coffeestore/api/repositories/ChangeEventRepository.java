@@ -0,0 +1,16 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import com.leticiapillar.coffeestore.api.models.ChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    @Query("select e from ChangeEvent e where e.sequence > :since order by e.sequence")
+    List<ChangeEvent> findSince(long since, Limit limit);
+
+    List<ChangeEvent> findBySequenceIsNullOrderById(Limit limit);
+}
@@ -1,9 +1,46 @@
 package com.leticiapillar.coffeestore.api.repositories;
 
 import com.leticiapillar.coffeestore.api.models.Client;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ClientRepository extends JpaRepository<Client, UUID> {
+public interface ClientRepository extends JpaRepository<Client, UUID>, ClientRepositoryCustom {
+
+    @Override
+    @EntityGraph(attributePaths = "addresses")
+    List<Client> findAll();
+
+    List<Client> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+
+    List<ClientSearchView> findAllProjectedBy();
+
+    @Query("""
+            select c from Client c
+            where (c.createdAt, c.id) > (:createdAt, :id)
+            order by c.createdAt, c.id""")
+    List<Client> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("select c from Client c order by c.createdAt, c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Client> streamAll();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("update Client c set c.enabled = :enabled, c.updatedAt = :updatedAt, c.version = c.version + 1 where c.id = :id")
+    int updateEnabled(UUID id, boolean enabled, LocalDateTime updatedAt);
 }
@@ -0,0 +1,10 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import com.leticiapillar.coffeestore.api.models.Client;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ClientRepositoryCustom {
+    List<Client> findMultiple(List<UUID> ids);
+}
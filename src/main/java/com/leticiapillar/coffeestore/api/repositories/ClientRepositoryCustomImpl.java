@@ -0,0 +1,22 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import com.leticiapillar.coffeestore.api.models.Client;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class ClientRepositoryCustomImpl implements ClientRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    // unlike findAllById, clients already in the persistence context or the second-level cache are not queried,
+    // the rest are loaded with a single IN query; the result follows the ids, with null where there is no client
+    @Override
+    public List<Client> findMultiple(List<UUID> ids) {
+        return entityManager.unwrap(Session.class).findMultiple(Client.class, ids);
+    }
+}
@@ -0,0 +1,9 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import java.util.UUID;
+
+public interface ClientSearchView {
+    UUID getId();
+    String getName();
+    String getEmail();
+}
@@ -1,9 +1,30 @@
 package com.leticiapillar.coffeestore.api.repositories;
 
 import com.leticiapillar.coffeestore.api.models.Coffee;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
-public interface CoffeeRepository extends JpaRepository<Coffee, UUID> {
+public interface CoffeeRepository extends JpaRepository<Coffee, UUID>, JpaSpecificationExecutor<Coffee>,
+        CoffeeRepositoryCustom {
+
+    List<Coffee> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+
+    @Query("""
+            select c from Coffee c
+            where (c.createdAt, c.id) > (:createdAt, :id)
+            order by c.createdAt, c.id""")
+    List<Coffee> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("update Coffee c set c.enabled = :enabled, c.updatedAt = :updatedAt, c.version = c.version + 1 where c.id = :id")
+    int updateEnabled(UUID id, boolean enabled, LocalDateTime updatedAt);
 }
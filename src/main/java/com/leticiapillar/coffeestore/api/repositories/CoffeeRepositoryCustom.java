@@ -0,0 +1,11 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Map;
+
+public interface CoffeeRepositoryCustom {
+    Map<CoffeeSize, Long> countBySize(Specification<Coffee> specification);
+}
@@ -0,0 +1,54 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class CoffeeRepositoryCustomImpl implements CoffeeRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Map<CoffeeSize, Long> countBySize(Specification<Coffee> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Coffee> root = query.from(Coffee.class);
+        Path<CoffeeSize> size = root.get("size");
+        Expression<Long> total = cb.count(root);
+        query.select(cb.tuple(size, total)).groupBy(size);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Map<CoffeeSize, Long> counts = new EnumMap<>(CoffeeSize.class);
+        for (CoffeeSize coffeeSize : CoffeeSize.values()) {
+            counts.put(coffeeSize, 0L);
+        }
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+        for (Tuple row : rows) {
+            CoffeeSize coffeeSize = row.get(size);
+            if (coffeeSize != null) {
+                counts.put(coffeeSize, row.get(total));
+            }
+        }
+        return counts;
+    }
+}
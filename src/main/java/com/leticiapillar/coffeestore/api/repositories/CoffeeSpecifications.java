@@ -0,0 +1,29 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+
+public final class CoffeeSpecifications {
+
+    private CoffeeSpecifications() {
+    }
+
+    public static Specification<Coffee> enabled() {
+        return (root, query, cb) -> cb.isTrue(root.get("enabled"));
+    }
+
+    public static Specification<Coffee> hasSize(CoffeeSize size) {
+        return (root, query, cb) -> cb.equal(root.get("size"), size);
+    }
+
+    public static Specification<Coffee> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<Coffee> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+}
@@ -0,0 +1,104 @@
+package com.leticiapillar.coffeestore.api.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+public class TextIndex<K> {
+
+    private static final int EXACT_MATCH = 2;
+    private static final int PREFIX_MATCH = 1;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    // token -> keys, sorted so that every token starting with a prefix is one contiguous sub map
+    private final ConcurrentNavigableMap<String, Set<K>> postings = new ConcurrentSkipListMap<>();
+    private final Map<K, List<String>> documents = new ConcurrentHashMap<>();
+
+    public synchronized void put(K key, String text) {
+        remove(key);
+        List<String> tokens = tokenize(text);
+        documents.put(key, tokens);
+        tokens.forEach(token -> postings.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(key));
+    }
+
+    public synchronized void putIfAbsent(K key, String text) {
+        if (!documents.containsKey(key)) {
+            put(key, text);
+        }
+    }
+
+    public synchronized void remove(K key) {
+        List<String> tokens = documents.remove(key);
+        if (tokens == null) {
+            return;
+        }
+        tokens.forEach(token -> postings.computeIfPresent(token, (t, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        }));
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public List<K> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<K, Integer> scores = null;
+        for (String term : terms) {
+            Map<K, Integer> termScores = match(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((key, score) -> score + termScores.get(key));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<K, Integer>comparingByValue().reversed()
+                        .thenComparing(entry -> tokenCount(entry.getKey())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Map<K, Integer> match(String term) {
+        Map<K, Integer> scores = new HashMap<>();
+        postings.subMap(term, true, term + Character.MAX_VALUE, true).forEach((token, keys) -> {
+            int score = token.length() == term.length() ? EXACT_MATCH : PREFIX_MATCH;
+            keys.forEach(key -> scores.merge(key, score, Math::max));
+        });
+        return scores;
+    }
+
+    private int tokenCount(K key) {
+        List<String> tokens = documents.get(key);
+        return tokens == null ? Integer.MAX_VALUE : tokens.size();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(SEPARATORS.split(normalized.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
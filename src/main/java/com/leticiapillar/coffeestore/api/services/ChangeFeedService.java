@@ -0,0 +1,13 @@
+package com.leticiapillar.coffeestore.api.services;
+
+import com.leticiapillar.coffeestore.api.dtos.ChangeFeedDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+
+import java.util.UUID;
+
+public interface ChangeFeedService {
+    void record(ChangeEntityType entityType, ChangeType changeType, UUID entityId);
+    void record(ChangeEntityType entityType, ChangeType changeType, UUID entityId, UUID parentId);
+    ChangeFeedDTO findSince(long since, Integer size);
+}
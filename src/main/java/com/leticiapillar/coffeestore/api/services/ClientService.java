@@ -4,18 +4,26 @@ import com.leticiapillar.coffeestore.api.dtos.AddressCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.AddressDTO;
 import com.leticiapillar.coffeestore.api.dtos.ClientCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.dtos.CursorPageDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ClientService {
     List<ClientDTO> findAll();
+    CursorPageDTO<ClientDTO> findPage(String cursor, Integer size);
+    List<ClientDTO> search(String query, Integer size);
     Optional<ClientDTO> findById(UUID id);
+    List<LookupEntryDTO<ClientDTO>> findAllById(List<UUID> ids);
     ClientDTO create(ClientCrudDTO dto);
     Optional<ClientDTO> update(UUID id, ClientCrudDTO dto);
-    void activate(UUID id);
-    void inactivate(UUID id);
+    Optional<ClientDTO> update(UUID id, ClientCrudDTO dto, String ifMatch);
+    boolean activate(UUID id);
+    boolean inactivate(UUID id);
     List<AddressDTO> findByIdAddresses(UUID id);
     void addAddress(UUID id, AddressCrudDTO dto);
+    void exportAll(Consumer<ClientDTO> consumer);
 }
@@ -1,7 +1,12 @@
 package com.leticiapillar.coffeestore.api.services;
 
+import com.leticiapillar.coffeestore.api.dtos.CoffeeCatalogDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuFilterDTO;
+import com.leticiapillar.coffeestore.api.dtos.CursorPageDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,9 +14,16 @@ import java.util.UUID;
 
 public interface CoffeeService {
     List<CoffeeDTO> findAll();
+    CoffeeCatalogDTO findCatalog();
+    CursorPageDTO<CoffeeDTO> findPage(String cursor, Integer size);
+    CoffeeMenuDTO findMenu(CoffeeMenuFilterDTO filter);
+    List<CoffeeDTO> search(String query, Integer size);
     Optional<CoffeeDTO> findById(UUID id);
+    List<LookupEntryDTO<CoffeeDTO>> findAllById(List<UUID> ids);
     CoffeeDTO create(CoffeeCrudDTO dto);
+    List<UUID> createAll(List<CoffeeCrudDTO> dtos);
     Optional<CoffeeDTO> update(UUID id, CoffeeCrudDTO dto);
-    void activate(UUID id);
-    void inactivate(UUID id);
+    Optional<CoffeeDTO> update(UUID id, CoffeeCrudDTO dto, String ifMatch);
+    boolean activate(UUID id);
+    boolean inactivate(UUID id);
 }
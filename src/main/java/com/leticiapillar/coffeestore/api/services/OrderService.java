@@ -0,0 +1,12 @@
+package com.leticiapillar.coffeestore.api.services;
+
+import com.leticiapillar.coffeestore.api.dtos.OrderCrudDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderDTO;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderService {
+    OrderDTO place(OrderCrudDTO dto);
+    Optional<OrderDTO> findById(UUID id);
+}
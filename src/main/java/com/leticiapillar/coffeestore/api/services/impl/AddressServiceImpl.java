@@ -1,10 +1,17 @@
 package com.leticiapillar.coffeestore.api.services.impl;
 
+import com.leticiapillar.coffeestore.api.concurrency.SingleFlight;
+import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
 import com.leticiapillar.coffeestore.api.repositories.AddressRepository;
 import com.leticiapillar.coffeestore.api.services.AddressService;
+import com.leticiapillar.coffeestore.api.services.ChangeFeedService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -12,9 +19,21 @@ import java.util.UUID;
 public class AddressServiceImpl implements AddressService {
 
     private final AddressRepository addressRepository;
+    private final ChangeFeedService changeFeedService;
+    private final SingleFlight<UUID, Optional<ClientDTO>> clientLookups;
 
     @Override
+    @Transactional
     public void deletebyId(UUID id) {
-        addressRepository.deleteById(id);
+        addressRepository.findById(id)
+                .ifPresent(address -> {
+                    addressRepository.delete(address);
+                    UUID clientId = address.getClient() != null ? address.getClient().getId() : null;
+                    changeFeedService.record(ChangeEntityType.ADDRESS, ChangeType.DELETED, id, clientId);
+                    if (clientId != null) {
+                        // a lookup already in flight may have read the address, so later callers must not join it
+                        AfterCommit.run(() -> clientLookups.forget(clientId));
+                    }
+                });
     }
 }
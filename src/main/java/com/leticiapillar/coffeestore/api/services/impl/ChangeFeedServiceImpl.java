@@ -0,0 +1,61 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.changes.ChangeEventSequencer;
+import com.leticiapillar.coffeestore.api.config.PaginationProperties;
+import com.leticiapillar.coffeestore.api.dtos.ChangeEventDTO;
+import com.leticiapillar.coffeestore.api.dtos.ChangeFeedDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+import com.leticiapillar.coffeestore.api.mappers.ChangeEventMapper;
+import com.leticiapillar.coffeestore.api.models.ChangeEvent;
+import com.leticiapillar.coffeestore.api.repositories.ChangeEventRepository;
+import com.leticiapillar.coffeestore.api.services.ChangeFeedService;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private final ChangeEventRepository changeEventRepository;
+    private final ChangeEventMapper changeEventMapper;
+    private final PaginationProperties paginationProperties;
+    private final ChangeEventSequencer changeEventSequencer;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeEntityType entityType, ChangeType changeType, UUID entityId) {
+        record(entityType, changeType, entityId, null);
+    }
+
+    // mandatory: the event must commit or roll back together with the change it describes
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeEntityType entityType, ChangeType changeType, UUID entityId, UUID parentId) {
+        changeEventRepository.save(ChangeEvent.builder()
+                .entityType(entityType)
+                .changeType(changeType)
+                .entityId(entityId)
+                .parentId(parentId)
+                .occurredAt(LocalDateTime.now())
+                .build());
+        AfterCommit.run(changeEventSequencer::wakeUp);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeedDTO findSince(long since, Integer size) {
+        // sequences are only stamped on committed rows, in commit order, so nothing can appear behind the cursor
+        List<ChangeEventDTO> changes = changeEventMapper.toDTOList(changeEventRepository.findSince(
+                since, Limit.of(paginationProperties.resolve(size))));
+        long next = changes.isEmpty() ? since : changes.getLast().sequence();
+        return new ChangeFeedDTO(changes, next);
+    }
+}
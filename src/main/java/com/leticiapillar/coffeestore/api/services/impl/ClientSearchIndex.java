@@ -0,0 +1,38 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.repositories.ClientSearchView;
+import com.leticiapillar.coffeestore.api.search.TextIndex;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+final class ClientSearchIndex {
+
+    private final TextIndex<UUID> index = new TextIndex<>();
+    private volatile boolean loaded;
+
+    List<UUID> search(String query, int limit, Supplier<List<ClientSearchView>> loader) {
+        if (!loaded) {
+            load(loader);
+        }
+        return index.search(query, limit);
+    }
+
+    void put(UUID id, String name, String email) {
+        index.put(id, text(name, email));
+    }
+
+    private synchronized void load(Supplier<List<ClientSearchView>> loader) {
+        if (loaded) {
+            return;
+        }
+        // rows indexed by a write that committed during the load are newer than what the load read
+        loader.get().forEach(client -> index.putIfAbsent(client.getId(), text(client.getName(), client.getEmail())));
+        loaded = true;
+    }
+
+    private static String text(String name, String email) {
+        return name + " " + email;
+    }
+}
@@ -1,90 +1,260 @@
 package com.leticiapillar.coffeestore.api.services.impl;
 
+import com.leticiapillar.coffeestore.api.caching.ETags;
+import com.leticiapillar.coffeestore.api.concurrency.SingleFlight;
+import com.leticiapillar.coffeestore.api.config.PaginationProperties;
 import com.leticiapillar.coffeestore.api.dtos.AddressCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.AddressDTO;
 import com.leticiapillar.coffeestore.api.dtos.ClientCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.dtos.CursorPageDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
 import com.leticiapillar.coffeestore.api.mappers.AddressMapper;
 import com.leticiapillar.coffeestore.api.mappers.ClientMapper;
 import com.leticiapillar.coffeestore.api.models.Address;
 import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.pagination.PageCursor;
+import com.leticiapillar.coffeestore.api.pagination.TooManyIdsException;
 import com.leticiapillar.coffeestore.api.repositories.AddressRepository;
 import com.leticiapillar.coffeestore.api.repositories.ClientRepository;
+import com.leticiapillar.coffeestore.api.services.ChangeFeedService;
 import com.leticiapillar.coffeestore.api.services.ClientService;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 public class ClientServiceImpl implements ClientService {
 
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final ClientRepository clientRepository;
     private final AddressRepository addressRepository;
     private final ClientMapper clientMapper;
     private final AddressMapper addressMapper;
+    private final PaginationProperties paginationProperties;
+    private final EntityManager entityManager;
+    private final ChangeFeedService changeFeedService;
+    private final PlatformTransactionManager transactionManager;
+    private final SingleFlight<UUID, Optional<ClientDTO>> clientLookups;
+    private final ClientSearchIndex searchIndex = new ClientSearchIndex();
 
     @Override
+    @Transactional(readOnly = true)
     public List<ClientDTO> findAll() {
         return clientMapper.toDTOList(clientRepository.findAll());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ClientDTO> findPage(String cursor, Integer size) {
+        int pageSize = paginationProperties.resolve(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Client> clients = cursor == null || cursor.isBlank()
+                ? clientRepository.findAllByOrderByCreatedAtAscIdAsc(limit)
+                : findPageAfter(PageCursor.decode(cursor), limit);
+        if (clients.size() <= pageSize) {
+            return new CursorPageDTO<>(clientMapper.toDTOList(clients), null);
+        }
+        List<Client> page = clients.subList(0, pageSize);
+        Client last = page.getLast();
+        return new CursorPageDTO<>(
+                clientMapper.toDTOList(page),
+                new PageCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientDTO> search(String query, Integer size) {
+        List<UUID> ids = searchIndex.search(query, paginationProperties.resolve(size),
+                clientRepository::findAllProjectedBy);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Client> clients = clientRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+        return ids.stream()
+                .map(clients::get)
+                .filter(Objects::nonNull)
+                .map(clientMapper::toDTO)
+                .toList();
+    }
+
     @Override
     public Optional<ClientDTO> findById(UUID id) {
-        return clientRepository.findById(id)
-                .map(clientMapper::toDTO);
+        // a caller inside a transaction may have changed the client itself, so it must not share another read
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loadById(id);
+        }
+        return clientLookups.execute(id, () -> readOnly(() -> loadById(id)));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<LookupEntryDTO<ClientDTO>> findAllById(List<UUID> ids) {
+        if (ids.size() > paginationProperties.maxSize()) {
+            throw new TooManyIdsException(paginationProperties.maxSize());
+        }
+        Map<UUID, ClientDTO> clients = clientRepository.findMultiple(ids.stream().distinct().toList()).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(Client::getId, clientMapper::toDTO));
+        return ids.stream()
+                .map(id -> LookupEntryDTO.of(id, clients.get(id)))
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public ClientDTO create(ClientCrudDTO dto) {
         Client client = clientMapper.toModel(dto);
-        return clientMapper.toDTO(clientRepository.save(client));
+        Client createdClient = clientRepository.save(client);
+        changeFeedService.record(ChangeEntityType.CLIENT, ChangeType.CREATED, createdClient.getId());
+        index(createdClient);
+        return clientMapper.toDTO(createdClient);
     }
 
     @Override
+    @Transactional
     public Optional<ClientDTO> update(UUID id, ClientCrudDTO dto) {
+        return update(id, dto, null);
+    }
+
+    @Override
+    @Transactional
+    public Optional<ClientDTO> update(UUID id, ClientCrudDTO dto, String ifMatch) {
         return clientRepository.findById(id)
                 .map(existingClient -> {
+                    // the ETag covers the addresses too, which the client version does not
+                    if (ifMatch != null && !ETags.matches(ifMatch, ETags.of(clientMapper.toDTO(existingClient)))) {
+                        throw new ObjectOptimisticLockingFailureException(Client.class, id);
+                    }
+                    if (dto.equals(clientMapper.toCrudDTO(existingClient))) {
+                        return clientMapper.toDTO(existingClient);
+                    }
                     clientMapper.updateEntityFromDto(dto, existingClient);
-                    Client updatedClient = clientRepository.save(existingClient);
+                    Client updatedClient = clientRepository.saveAndFlush(existingClient);
+                    changeFeedService.record(ChangeEntityType.CLIENT, ChangeType.UPDATED, id);
+                    index(updatedClient);
                     return clientMapper.toDTO(updatedClient);
                 });
     }
 
     @Override
-    public void activate(UUID id) {
-        clientRepository.findById(id)
-                .ifPresent(client -> {
-                    client.setEnabled(true);
-                    clientRepository.save(client);
-                });
+    @Transactional
+    public boolean activate(UUID id) {
+        return updateEnabled(id, true);
     }
 
     @Override
-    public void inactivate(UUID id) {
-        clientRepository.findById(id)
-                .ifPresent(client -> {
-                    client.setEnabled(false);
-                    clientRepository.save(client);
-                });
+    @Transactional
+    public boolean inactivate(UUID id) {
+        return updateEnabled(id, false);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AddressDTO> findByIdAddresses(UUID id) {
         return addressMapper.toDTOList(addressRepository.findByClientId(id));
     }
 
     @Override
+    @Transactional
     public void addAddress(UUID id, AddressCrudDTO dto) {
         clientRepository.findById(id)
                 .ifPresent(client -> {
                     Address address = addressMapper.toModel(dto);
                     address.setClient(client);
-                    addressRepository.save(address);
+                    Address createdAddress = addressRepository.save(address);
+                    changeFeedService.record(ChangeEntityType.ADDRESS, ChangeType.CREATED, createdAddress.getId(), id);
+                    AfterCommit.run(() -> clientLookups.forget(id));
                 });
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ClientDTO> consumer) {
+        List<Client> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<Client> clients = clientRepository.streamAll()) {
+            clients.forEach(client -> {
+                chunk.add(client);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exportChunk(chunk, consumer);
+                }
+            });
+        }
+        exportChunk(chunk, consumer);
+    }
+
+    private void exportChunk(List<Client> chunk, Consumer<ClientDTO> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<UUID> clientIds = chunk.stream().map(Client::getId).toList();
+        Map<UUID, List<AddressDTO>> addressesByClient = addressRepository.findByClientIdIn(clientIds).stream()
+                .collect(Collectors.groupingBy(
+                        address -> address.getClient().getId(),
+                        Collectors.mapping(addressMapper::toDTO, Collectors.toList())));
+        chunk.forEach(client -> consumer.accept(
+                clientMapper.toDTO(client, addressesByClient.getOrDefault(client.getId(), List.of()))));
+        chunk.clear();
+        // keeps the persistence context from growing with every exported row
+        entityManager.clear();
+    }
+
+    private boolean updateEnabled(UUID id, boolean enabled) {
+        boolean updated = clientRepository.updateEnabled(id, enabled, LocalDateTime.now()) > 0;
+        if (updated) {
+            changeFeedService.record(ChangeEntityType.CLIENT, enabled ? ChangeType.ACTIVATED : ChangeType.INACTIVATED, id);
+            AfterCommit.run(() -> clientLookups.forget(id));
+        }
+        return updated;
+    }
+
+    private Optional<ClientDTO> loadById(UUID id) {
+        return clientRepository.findById(id)
+                .map(clientMapper::toDTO);
+    }
+
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private void index(Client client) {
+        UUID id = client.getId();
+        String name = client.getName();
+        String email = client.getEmail();
+        AfterCommit.run(() -> {
+            searchIndex.put(id, name, email);
+            clientLookups.forget(id);
+        });
+    }
+
+    private List<Client> findPageAfter(PageCursor cursor, Limit limit) {
+        return clientRepository.findPageAfter(cursor.createdAt(), cursor.id(), limit);
+    }
+
 }
@@ -0,0 +1,76 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.search.TextIndex;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.LongFunction;
+import java.util.function.UnaryOperator;
+
+final class CoffeeCatalog {
+
+    private volatile TextIndex<UUID> searchIndex = new TextIndex<>();
+    private volatile CoffeeCatalogSnapshot snapshot;
+    private volatile long loadedAt;
+    private long modifications;
+
+    // local writes are applied in place, but writes made on other instances only show up on reload, so a
+    // snapshot older than the time to live is loaded again; the loader is given the write count seen before
+    // loading, so concurrent loads can be shared per count
+    CoffeeCatalogSnapshot get(Duration timeToLive, LongFunction<List<CoffeeDTO>> loader) {
+        CoffeeCatalogSnapshot current = snapshot;
+        if (current != null && System.nanoTime() - loadedAt < timeToLive.toNanos()) {
+            return current;
+        }
+        long seenModifications;
+        synchronized (this) {
+            seenModifications = modifications;
+        }
+        CoffeeCatalogSnapshot loaded = CoffeeCatalogSnapshot.of(loader.apply(seenModifications));
+        synchronized (this) {
+            // a write committed while loading may be missing from the result, so only keep it if none happened
+            if (snapshot == current && seenModifications == modifications) {
+                searchIndex = indexOf(loaded);
+                snapshot = loaded;
+                loadedAt = System.nanoTime();
+            }
+        }
+        return loaded;
+    }
+
+    List<CoffeeDTO> search(String query, int limit, Duration timeToLive, LongFunction<List<CoffeeDTO>> loader) {
+        CoffeeCatalogSnapshot current = get(timeToLive, loader);
+        TextIndex<UUID> index = current == snapshot ? searchIndex : indexOf(current);
+        return index.search(query, limit).stream()
+                .map(current.byId()::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // returns the updated catalog, or null when none has been loaded
+    synchronized CoffeeCatalogSnapshot update(UnaryOperator<CoffeeCatalogSnapshot> change) {
+        modifications++;
+        CoffeeCatalogSnapshot previous = snapshot;
+        if (previous == null) {
+            return null;
+        }
+        snapshot = change.apply(previous);
+        for (CoffeeDTO coffee : snapshot.coffees()) {
+            CoffeeDTO before = previous.byId().get(coffee.id());
+            if (before == null || !Objects.equals(before.name(), coffee.name())) {
+                searchIndex.put(coffee.id(), coffee.name());
+            }
+        }
+        return snapshot;
+    }
+
+    private static TextIndex<UUID> indexOf(CoffeeCatalogSnapshot catalog) {
+        TextIndex<UUID> index = new TextIndex<>();
+        catalog.coffees().forEach(coffee -> index.put(coffee.id(), coffee.name()));
+        return index;
+    }
+
+}
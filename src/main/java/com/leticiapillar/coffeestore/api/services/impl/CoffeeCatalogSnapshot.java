@@ -0,0 +1,61 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.caching.ETags;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeCatalogDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+record CoffeeCatalogSnapshot(List<CoffeeDTO> coffees, Map<UUID, CoffeeDTO> byId, String version) {
+
+    static CoffeeCatalogSnapshot of(List<CoffeeDTO> coffees) {
+        List<CoffeeDTO> immutableCoffees = List.copyOf(coffees);
+        Map<UUID, CoffeeDTO> byId = immutableCoffees.stream()
+                .collect(Collectors.toUnmodifiableMap(CoffeeDTO::id, Function.identity()));
+        return new CoffeeCatalogSnapshot(immutableCoffees, byId, ETags.of(immutableCoffees));
+    }
+
+    CoffeeCatalogDTO toDTO() {
+        return new CoffeeCatalogDTO(version, coffees);
+    }
+
+    CoffeeCatalogSnapshot with(CoffeeDTO coffee) {
+        return withAll(List.of(coffee));
+    }
+
+    CoffeeCatalogSnapshot withAll(List<CoffeeDTO> changedCoffees) {
+        Map<UUID, CoffeeDTO> changes = new LinkedHashMap<>();
+        changedCoffees.forEach(coffee -> changes.put(coffee.id(), coffee));
+        List<CoffeeDTO> updatedCoffees = new ArrayList<>(coffees.size() + changes.size());
+        for (CoffeeDTO existing : coffees) {
+            CoffeeDTO replacement = changes.remove(existing.id());
+            updatedCoffees.add(replacement != null ? replacement : existing);
+        }
+        updatedCoffees.addAll(changes.values());
+        return of(updatedCoffees);
+    }
+
+    CoffeeCatalogSnapshot withEnabled(UUID id, boolean enabled, LocalDateTime updatedAt) {
+        CoffeeDTO coffee = byId.get(id);
+        if (coffee == null) {
+            return this;
+        }
+        return with(new CoffeeDTO(
+                coffee.id(),
+                coffee.name(),
+                coffee.size(),
+                coffee.price(),
+                enabled,
+                coffee.createdAt(),
+                updatedAt,
+                coffee.version() + 1));
+    }
+
+}
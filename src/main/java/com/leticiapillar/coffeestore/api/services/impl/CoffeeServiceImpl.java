@@ -1,17 +1,44 @@
 package com.leticiapillar.coffeestore.api.services.impl;
 
+import com.leticiapillar.coffeestore.api.caching.ETags;
+import com.leticiapillar.coffeestore.api.concurrency.SingleFlight;
+import com.leticiapillar.coffeestore.api.config.CoffeeCatalogProperties;
+import com.leticiapillar.coffeestore.api.config.PaginationProperties;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeCatalogDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuFilterDTO;
+import com.leticiapillar.coffeestore.api.dtos.CursorPageDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
 import com.leticiapillar.coffeestore.api.mappers.CoffeeMapper;
 import com.leticiapillar.coffeestore.api.models.Coffee;
+import com.leticiapillar.coffeestore.api.pagination.PageCursor;
+import com.leticiapillar.coffeestore.api.pagination.TooManyIdsException;
+import com.leticiapillar.coffeestore.api.pagination.TooManyItemsException;
 import com.leticiapillar.coffeestore.api.repositories.CoffeeRepository;
+import com.leticiapillar.coffeestore.api.repositories.CoffeeSpecifications;
+import com.leticiapillar.coffeestore.api.services.ChangeFeedService;
 import com.leticiapillar.coffeestore.api.services.CoffeeService;
+import com.leticiapillar.coffeestore.api.streaming.CoffeeChangedEvent;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 @Service
 @AllArgsConstructor
@@ -19,49 +46,186 @@ public class CoffeeServiceImpl implements CoffeeService {
 
     private final CoffeeRepository coffeeRepository;
     private final CoffeeMapper coffeeMapper;
+    private final PaginationProperties paginationProperties;
+    private final ChangeFeedService changeFeedService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<Long, List<CoffeeDTO>> catalogLoads;
+    private final CoffeeCatalogProperties catalogProperties;
+    private final CoffeeCatalog catalog = new CoffeeCatalog();
 
     @Override
     public List<CoffeeDTO> findAll() {
-        return coffeeMapper.toDTOList(coffeeRepository.findAll());
+        return catalog().coffees();
+    }
+
+    @Override
+    public CoffeeCatalogDTO findCatalog() {
+        return catalog().toDTO();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CoffeeDTO> findPage(String cursor, Integer size) {
+        int pageSize = paginationProperties.resolve(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Coffee> coffees = cursor == null || cursor.isBlank()
+                ? coffeeRepository.findAllByOrderByCreatedAtAscIdAsc(limit)
+                : findPageAfter(PageCursor.decode(cursor), limit);
+        if (coffees.size() <= pageSize) {
+            return new CursorPageDTO<>(coffeeMapper.toDTOList(coffees), null);
+        }
+        List<Coffee> page = coffees.subList(0, pageSize);
+        Coffee last = page.getLast();
+        return new CursorPageDTO<>(
+                coffeeMapper.toDTOList(page),
+                new PageCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CoffeeMenuDTO findMenu(CoffeeMenuFilterDTO filter) {
+        List<Specification<Coffee>> facetFilters = new ArrayList<>();
+        facetFilters.add(CoffeeSpecifications.enabled());
+        if (filter.minPrice() != null) {
+            facetFilters.add(CoffeeSpecifications.priceAtLeast(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            facetFilters.add(CoffeeSpecifications.priceAtMost(filter.maxPrice()));
+        }
+        // facet counts ignore the selected size so the other sizes still show how many coffees they offer
+        Specification<Coffee> facetSpecification = Specification.allOf(facetFilters);
+        Specification<Coffee> menuSpecification = filter.size() == null
+                ? facetSpecification
+                : facetSpecification.and(CoffeeSpecifications.hasSize(filter.size()));
+        Sort sort = Sort.by(filter.direction(), filter.sort().property()).and(Sort.by("id"));
+        return new CoffeeMenuDTO(
+                coffeeMapper.toDTOList(coffeeRepository.findAll(menuSpecification, sort)),
+                coffeeRepository.countBySize(facetSpecification));
+    }
+
+    @Override
+    public List<CoffeeDTO> search(String query, Integer size) {
+        return catalog.search(query, paginationProperties.resolve(size), catalogProperties.timeToLive(),
+                this::loadCatalog);
     }
 
     @Override
     public Optional<CoffeeDTO> findById(UUID id) {
-        return coffeeRepository.findById(id)
-                .map(coffeeMapper::toDTO);
+        return Optional.ofNullable(catalog().byId().get(id));
     }
 
     @Override
+    public List<LookupEntryDTO<CoffeeDTO>> findAllById(List<UUID> ids) {
+        if (ids.size() > paginationProperties.maxSize()) {
+            throw new TooManyIdsException(paginationProperties.maxSize());
+        }
+        Map<UUID, CoffeeDTO> coffees = catalog().byId();
+        return ids.stream()
+                .map(id -> LookupEntryDTO.of(id, coffees.get(id)))
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public CoffeeDTO create(CoffeeCrudDTO dto) {
         Coffee coffee = coffeeMapper.toModel(dto);
-        return coffeeMapper.toDTO(coffeeRepository.save(coffee));
+        CoffeeDTO createdCoffee = coffeeMapper.toDTO(coffeeRepository.save(coffee));
+        changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.CREATED, createdCoffee.id());
+        publish(snapshot -> snapshot.with(createdCoffee), ChangeType.CREATED, List.of(createdCoffee));
+        return createdCoffee;
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> createAll(List<CoffeeCrudDTO> dtos) {
+        // one transaction holds every row, so the batch is bounded like the other multi-item requests
+        if (dtos.size() > paginationProperties.maxSize()) {
+            throw new TooManyItemsException(paginationProperties.maxSize());
+        }
+        List<Coffee> coffees = dtos.stream()
+                .map(coffeeMapper::toModel)
+                .toList();
+        List<CoffeeDTO> createdCoffees = coffeeMapper.toDTOList(coffeeRepository.saveAll(coffees));
+        createdCoffees.forEach(coffee -> changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.CREATED, coffee.id()));
+        publish(snapshot -> snapshot.withAll(createdCoffees), ChangeType.CREATED, createdCoffees);
+        return createdCoffees.stream()
+                .map(CoffeeDTO::id)
+                .toList();
     }
 
     @Override
+    @Transactional
     public Optional<CoffeeDTO> update(UUID id, CoffeeCrudDTO dto) {
+        return update(id, dto, null);
+    }
+
+    @Override
+    @Transactional
+    public Optional<CoffeeDTO> update(UUID id, CoffeeCrudDTO dto, String ifMatch) {
         return coffeeRepository.findById(id)
                 .map(existingCoffee -> {
+                    // the precondition is checked against the row read here, as the catalog may lag other instances
+                    if (ifMatch != null && !ETags.matches(ifMatch, ETags.of(coffeeMapper.toDTO(existingCoffee)))) {
+                        throw new ObjectOptimisticLockingFailureException(Coffee.class, id);
+                    }
+                    if (dto.equals(coffeeMapper.toCrudDTO(existingCoffee))) {
+                        return coffeeMapper.toDTO(existingCoffee);
+                    }
                     coffeeMapper.updateEntityFromDto(dto, existingCoffee);
-                    Coffee updatedCoffee = coffeeRepository.save(existingCoffee);
-                    return coffeeMapper.toDTO(updatedCoffee);
+                    Coffee updatedCoffee = coffeeRepository.saveAndFlush(existingCoffee);
+                    CoffeeDTO updatedCoffeeDTO = coffeeMapper.toDTO(updatedCoffee);
+                    changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.UPDATED, id);
+                    publish(snapshot -> snapshot.with(updatedCoffeeDTO), ChangeType.UPDATED, List.of(updatedCoffeeDTO));
+                    return updatedCoffeeDTO;
                 });
     }
 
     @Override
-    public void activate(UUID id) {
-        coffeeRepository.findById(id)
-                .ifPresent(coffee -> {
-                    coffee.setEnabled(true);
-                    coffeeRepository.save(coffee);
-                });
+    @Transactional
+    public boolean activate(UUID id) {
+        return updateEnabled(id, true);
     }
 
     @Override
-    public void inactivate(UUID id) {
-        coffeeRepository.findById(id)
-                .ifPresent(coffee -> {
-                    coffee.setEnabled(false);
-                    coffeeRepository.save(coffee);
-                });
+    @Transactional
+    public boolean inactivate(UUID id) {
+        return updateEnabled(id, false);
+    }
+
+    private boolean updateEnabled(UUID id, boolean enabled) {
+        LocalDateTime updatedAt = Coffee.now();
+        boolean updated = coffeeRepository.updateEnabled(id, enabled, updatedAt) > 0;
+        if (updated) {
+            ChangeType changeType = enabled ? ChangeType.ACTIVATED : ChangeType.INACTIVATED;
+            changeFeedService.record(ChangeEntityType.COFFEE, changeType, id);
+            AfterCommit.run(() -> {
+                CoffeeCatalogSnapshot updatedCatalog = catalog.update(snapshot -> snapshot.withEnabled(id, enabled, updatedAt));
+                // the bulk update returns no row, so the new state is only known from a loaded catalog
+                CoffeeDTO coffee = updatedCatalog == null ? null : updatedCatalog.byId().get(id);
+                eventPublisher.publishEvent(new CoffeeChangedEvent(changeType, id, coffee));
+            });
+        }
+        return updated;
+    }
+
+    private List<Coffee> findPageAfter(PageCursor cursor, Limit limit) {
+        return coffeeRepository.findPageAfter(cursor.createdAt(), cursor.id(), limit);
+    }
+
+    private CoffeeCatalogSnapshot catalog() {
+        return catalog.get(catalogProperties.timeToLive(), this::loadCatalog);
+    }
+
+    // requests arriving while the catalog is cold share one query and one mapping; only loads that started
+    // after the same number of writes are shared, so none can hand back a catalog missing a write
+    private List<CoffeeDTO> loadCatalog(long seenModifications) {
+        return catalogLoads.execute(seenModifications, () -> coffeeMapper.toDTOList(coffeeRepository.findAll()));
+    }
+
+    private void publish(UnaryOperator<CoffeeCatalogSnapshot> change, ChangeType changeType, List<CoffeeDTO> coffees) {
+        AfterCommit.run(() -> {
+            catalog.update(change);
+            coffees.forEach(coffee -> eventPublisher.publishEvent(new CoffeeChangedEvent(changeType, coffee.id(), coffee)));
+        });
     }
 }
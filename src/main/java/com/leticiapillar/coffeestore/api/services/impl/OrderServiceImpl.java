@@ -0,0 +1,92 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.config.OrderProperties;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderCrudDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderItemCrudDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderItemDTO;
+import com.leticiapillar.coffeestore.api.enums.OrderStatus;
+import com.leticiapillar.coffeestore.api.identifiers.UuidV7;
+import com.leticiapillar.coffeestore.api.mappers.OrderMapper;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.orders.InvalidOrderException;
+import com.leticiapillar.coffeestore.api.orders.OrderBatchWriter;
+import com.leticiapillar.coffeestore.api.orders.OrderQueueFullException;
+import com.leticiapillar.coffeestore.api.repositories.ClientRepository;
+import com.leticiapillar.coffeestore.api.repositories.OrderRepository;
+import com.leticiapillar.coffeestore.api.services.CoffeeService;
+import com.leticiapillar.coffeestore.api.services.OrderService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class OrderServiceImpl implements OrderService {
+
+    private final CoffeeService coffeeService;
+    private final ClientRepository clientRepository;
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderBatchWriter orderBatchWriter;
+    private final OrderProperties orderProperties;
+
+    @Override
+    public OrderDTO place(OrderCrudDTO dto) {
+        if (dto.clientId() == null || dto.items() == null || dto.items().isEmpty()) {
+            throw new InvalidOrderException("An order needs a client and at least one item");
+        }
+        if (dto.items().size() > orderProperties.maxItems()) {
+            throw new InvalidOrderException("An order can have at most " + orderProperties.maxItems() + " items");
+        }
+        // served from the second-level cache once the client has been seen
+        boolean clientEnabled = clientRepository.findById(dto.clientId())
+                .map(Client::isEnabled)
+                .orElse(false);
+        if (!clientEnabled) {
+            throw new InvalidOrderException("Unknown or inactive client " + dto.clientId());
+        }
+        List<OrderItemDTO> items = dto.items().stream()
+                .map(this::price)
+                .toList();
+        BigDecimal total = items.stream()
+                .map(item -> item.unitPrice().multiply(BigDecimal.valueOf(item.quantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        OrderDTO order = new OrderDTO(UuidV7.generate(), dto.clientId(), OrderStatus.PENDING, items, total,
+                LocalDateTime.now());
+        if (!orderBatchWriter.offer(order)) {
+            throw new OrderQueueFullException();
+        }
+        return order;
+    }
+
+    // read-write so the read stays on the primary: the batch writer commits on its own thread, so the caller that
+    // placed the order never becomes sticky and a lagging replica would answer 404 once it leaves the queue
+    @Override
+    @Transactional
+    public Optional<OrderDTO> findById(UUID id) {
+        Optional<OrderDTO> pending = orderBatchWriter.findPending(id);
+        if (pending.isPresent()) {
+            return pending;
+        }
+        return orderRepository.findWithItemsById(id).map(orderMapper::toDTO);
+    }
+
+    // the price is copied from the catalog snapshot, later price changes do not touch orders already taken
+    private OrderItemDTO price(OrderItemCrudDTO item) {
+        if (item.coffeeId() == null || item.quantity() == null || item.quantity() < 1) {
+            throw new InvalidOrderException("Every item needs a coffee and a positive quantity");
+        }
+        CoffeeDTO coffee = coffeeService.findById(item.coffeeId())
+                .filter(CoffeeDTO::enabled)
+                .orElseThrow(() -> new InvalidOrderException("Unknown or inactive coffee " + item.coffeeId()));
+        return new OrderItemDTO(UuidV7.generate(), coffee.id(), item.quantity(), coffee.price());
+    }
+}
@@ -0,0 +1,10 @@
+package com.leticiapillar.coffeestore.api.streaming;
+
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+
+import java.util.UUID;
+
+// coffee is null when the new state is not known without a database read
+public record CoffeeChangedEvent(ChangeType changeType, UUID id, CoffeeDTO coffee) {
+}
@@ -0,0 +1,168 @@
+package com.leticiapillar.coffeestore.api.streaming;
+
+import com.leticiapillar.coffeestore.api.dtos.CoffeeCatalogDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+public class CoffeeStreamBroadcaster implements SmartLifecycle {
+
+    static final String CATALOG_EVENT = "catalog";
+    static final String COFFEE_EVENT = "coffee";
+
+    private static final Supplier<SseEventBuilder> HEARTBEAT = () -> SseEmitter.event().comment("heartbeat");
+
+    private final Set<CoffeeStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final Duration heartbeatInterval;
+    private final Duration reconnectDelay;
+    private final Duration shutdownTimeout;
+    private final Counter dropped;
+    private ExecutorService senders;
+    private ScheduledExecutorService heartbeats;
+    private volatile boolean running;
+
+    public CoffeeStreamBroadcaster(ObjectMapper objectMapper, int queueCapacity, int maxSubscribers,
+                                   Duration heartbeatInterval, Duration reconnectDelay, Duration shutdownTimeout,
+                                   MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatInterval = heartbeatInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.shutdownTimeout = shutdownTimeout;
+        Gauge.builder("coffees.stream.subscribers", subscribers, Set::size)
+                .description("Open coffee change streams")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("coffees.stream.dropped")
+                .description("Streams closed because the client fell too far behind")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Supplier<CoffeeCatalogDTO> catalog) {
+        // no timeout: heartbeats find dead connections, and a closed stream is simply reopened by the client
+        return subscribe(new SseEmitter(0L), catalog);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Supplier<CoffeeCatalogDTO> catalog) {
+        if (!running || subscribers.size() >= maxSubscribers) {
+            throw new StreamCapacityExceededException();
+        }
+        CoffeeStreamSubscriber subscriber = new CoffeeStreamSubscriber(emitter, queueCapacity, senders);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        // registered before the catalog is read so no change committed in between is missed; one that is already
+        // in the catalog may be sent again, which clients absorb by keeping the highest version of each coffee
+        subscribers.add(subscriber);
+        try {
+            CoffeeCatalogDTO current = catalog.get();
+            String data = objectMapper.writeValueAsString(current);
+            subscriber.offer(() -> SseEmitter.event()
+                    .name(CATALOG_EVENT)
+                    .id(current.version())
+                    .reconnectTime(reconnectDelay.toMillis())
+                    .data(data));
+        } catch (RuntimeException e) {
+            // the emitter is never handed out, so nothing else would ever remove the subscriber
+            remove(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onCoffeeChanged(CoffeeChangedEvent event) {
+        if (event.coffee() == null) {
+            // the change cannot be described, so every stream starts over from a fresh catalog
+            subscribers.forEach(this::drop);
+            return;
+        }
+        // serialized once for every subscriber rather than once per send
+        String data = objectMapper.writeValueAsString(event.coffee());
+        Supplier<SseEventBuilder> message = () -> SseEmitter.event().name(COFFEE_EVENT).data(data);
+        for (CoffeeStreamSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(message)) {
+                dropped.increment();
+                drop(subscriber);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        senders = Executors.newVirtualThreadPerTaskExecutor();
+        heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("coffee-stream-heartbeat").daemon().factory());
+        long interval = heartbeatInterval.toMillis();
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        heartbeats.shutdownNow();
+        subscribers.forEach(this::drop);
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Coffee streams did not close within {}", shutdownTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // stop before the web server, whose graceful shutdown would otherwise wait for every open stream
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE;
+    }
+
+    // only idle streams need a heartbeat; a busy one is already proving its connection is alive
+    private void heartbeat() {
+        for (CoffeeStreamSubscriber subscriber : subscribers) {
+            if (subscriber.isIdle() && !subscriber.offer(HEARTBEAT)) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    private void drop(CoffeeStreamSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.close();
+    }
+
+    private void remove(CoffeeStreamSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.markClosed();
+    }
+}
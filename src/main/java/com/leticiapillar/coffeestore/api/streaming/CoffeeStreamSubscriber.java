@@ -0,0 +1,83 @@
+package com.leticiapillar.coffeestore.api.streaming;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+final class CoffeeStreamSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<Supplier<SseEventBuilder>> queue;
+    private final Executor executor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    CoffeeStreamSubscriber(SseEmitter emitter, int queueCapacity, Executor executor) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = executor;
+    }
+
+    // never blocks: false means the subscriber is closed or too far behind to catch up
+    boolean offer(Supplier<SseEventBuilder> event) {
+        if (closed || !queue.offer(event)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    boolean isIdle() {
+        return queue.isEmpty();
+    }
+
+    // completing waits for a send in progress, so it happens on the executor rather than the caller's thread
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        try {
+            executor.execute(emitter::complete);
+        } catch (RejectedExecutionException e) {
+            emitter.complete();
+        }
+    }
+
+    void markClosed() {
+        closed = true;
+        queue.clear();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    // a task only runs while there is something to send, so idle subscribers hold no thread
+    private void drain() {
+        try {
+            Supplier<SseEventBuilder> event;
+            while (!closed && (event = queue.poll()) != null) {
+                emitter.send(event.get());
+            }
+        } catch (IOException | IllegalStateException e) {
+            markClosed();
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+        if (!closed && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.leticiapillar.coffeestore.api.streaming;
+
+public class StreamCapacityExceededException extends RuntimeException {
+
+    public StreamCapacityExceededException() {
+        super("Too many open coffee streams");
+    }
+}
@@ -0,0 +1,42 @@
+-- Schema previously generated by hibernate.ddl-auto=update. Existing databases are baselined at this
+-- version (spring.flyway.baseline-on-migrate), so this script only runs against empty databases.
+
+create table if not exists coffee
+(
+    id         uuid    not null,
+    name       varchar(255),
+    size       varchar(255) check (size in ('SMALL', 'MEDIUM', 'LARGE')),
+    price      numeric(38, 2),
+    enabled    boolean not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table if not exists client
+(
+    id         uuid    not null,
+    name       varchar(255),
+    email      varchar(255),
+    enabled    boolean not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table if not exists address
+(
+    id           uuid not null,
+    street       varchar(255),
+    number       varchar(255),
+    complement   varchar(255),
+    neighborhood varchar(255),
+    city         varchar(255),
+    state        varchar(255),
+    zip_code     varchar(255),
+    client_id    uuid,
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    primary key (id),
+    constraint fk_address_client foreign key (client_id) references client (id)
+);
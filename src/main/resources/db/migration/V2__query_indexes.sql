@@ -0,0 +1,9 @@
+-- AddressRepository.findByClientId / findByClientIdIn
+create index if not exists idx_address_client_id on address (client_id);
+
+-- client lookups by email
+create index if not exists idx_client_email on client (email);
+
+-- keyset pagination: order by created_at, id
+create index if not exists idx_coffee_created_at_id on coffee (created_at, id);
+create index if not exists idx_client_created_at_id on client (created_at, id);
@@ -0,0 +1,15 @@
+alter table coffee
+    alter column name type varchar(120),
+    alter column size type varchar(20),
+    alter column price type numeric(10, 2),
+    alter column created_at set not null;
+
+alter table client
+    alter column name type varchar(120),
+    alter column email type varchar(254),
+    alter column created_at set not null;
+
+alter table address
+    alter column state type varchar(50),
+    alter column zip_code type varchar(20),
+    alter column created_at set not null;
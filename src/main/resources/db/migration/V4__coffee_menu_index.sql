@@ -0,0 +1,2 @@
+-- GET /api/coffees/menu: enabled coffees filtered by size and price range, and the per-size facet counts
+create index if not exists idx_coffee_enabled_size_price on coffee (size, price) where enabled;
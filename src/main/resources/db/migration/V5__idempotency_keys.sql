@@ -0,0 +1,14 @@
+-- Idempotency-Key store shared by all instances (coffeestore.idempotency.store=jdbc). A row without a
+-- status is a request still in flight; expired rows are reclaimed by the next claim and purged in batches.
+create table if not exists idempotency_key
+(
+    idempotency_key varchar(255) not null,
+    fingerprint     varchar(64)  not null,
+    status          integer,
+    headers         varchar(1024),
+    body            bytea,
+    expires_at      timestamp(6) not null,
+    primary key (idempotency_key)
+);
+
+create index if not exists idx_idempotency_key_expires_at on idempotency_key (expires_at);
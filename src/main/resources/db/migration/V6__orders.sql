@@ -0,0 +1,27 @@
+-- POST /api/orders: orders are written in batches by the order writer, prices are copied from the coffee
+-- at the time the order was taken so later price changes do not rewrite past sales.
+create table if not exists orders
+(
+    id         uuid           not null,
+    client_id  uuid           not null,
+    status     varchar(20)    not null,
+    total      numeric(10, 2) not null,
+    created_at timestamp(6)   not null,
+    primary key (id),
+    constraint fk_orders_client foreign key (client_id) references client (id)
+);
+
+create table if not exists order_item
+(
+    id         uuid           not null,
+    order_id   uuid           not null,
+    coffee_id  uuid           not null,
+    quantity   integer        not null,
+    unit_price numeric(10, 2) not null,
+    primary key (id),
+    constraint fk_order_item_order foreign key (order_id) references orders (id),
+    constraint fk_order_item_coffee foreign key (coffee_id) references coffee (id)
+);
+
+create index if not exists idx_orders_client_id_created_at on orders (client_id, created_at);
+create index if not exists idx_order_item_order_id on order_item (order_id);
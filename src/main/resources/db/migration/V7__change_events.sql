@@ -0,0 +1,12 @@
+-- Outbox of coffee, client and address changes, appended in the same transaction as the change itself.
+-- GET /api/changes?since=<sequence> reads it as a range scan on the primary key.
+create table if not exists change_event
+(
+    id          bigint generated by default as identity,
+    entity_type varchar(20)  not null,
+    entity_id   uuid         not null,
+    parent_id   uuid,
+    change_type varchar(20)  not null,
+    occurred_at timestamp(6) not null,
+    primary key (id)
+);
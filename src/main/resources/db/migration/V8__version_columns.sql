@@ -0,0 +1,12 @@
+-- Optimistic locking columns. Databases baselined from ddl-auto=update may already have them, possibly nullable.
+alter table coffee add column if not exists version bigint not null default 0;
+update coffee set version = 0 where version is null;
+alter table coffee
+    alter column version set default 0,
+    alter column version set not null;
+
+alter table client add column if not exists version bigint not null default 0;
+update client set version = 0 where version is null;
+alter table client
+    alter column version set default 0,
+    alter column version set not null;
@@ -0,0 +1,21 @@
+-- Readers page by a sequence stamped after commit, in commit order, instead of the insert-time identity,
+-- which a slower transaction could commit below a position a reader had already passed.
+alter table change_event add column if not exists sequence bigint;
+update change_event set sequence = id where sequence is null;
+create unique index if not exists idx_change_event_sequence on change_event (sequence);
+create index if not exists idx_change_event_unsequenced on change_event (id) where sequence is null;
+
+create table if not exists change_feed_sequence
+(
+    id            integer not null,
+    last_sequence bigint  not null,
+    primary key (id)
+);
+insert into change_feed_sequence (id, last_sequence)
+select 1, coalesce(max(sequence), 0) from change_event
+on conflict (id) do nothing;
+
+-- a pooled sequence (allocationSize 50) lets Hibernate batch the outbox inserts, which an identity prevents
+alter table change_event alter column id drop identity if exists;
+create sequence if not exists change_event_id_seq increment by 50;
+select setval('change_event_id_seq', coalesce(max(id), 0) + 50, false) from change_event;
@@ -0,0 +1,133 @@
+package com.leticiapillar.coffeestore.api.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should share one call between concurrent callers of the same key")
+    void shouldShareOneCallBetweenConcurrentCallersOfTheSameKey() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently("coffee", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "espresso";
+        }, release);
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("espresso");
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(collapsed()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("should hand the exception of the shared call to every caller")
+    void shouldHandTheExceptionOfTheSharedCallToEveryCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently("coffee", () -> {
+            await(release);
+            throw new IllegalStateException("database down");
+        }, release);
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("should call again once the previous call has finished")
+    void shouldCallAgainOnceThePreviousCallHasFinished() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("coffee", () -> "v" + calls.incrementAndGet());
+        String second = singleFlight.execute("coffee", () -> "v" + calls.incrementAndGet());
+
+        assertThat(second).isEqualTo("v2");
+        assertThat(collapsed()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not share calls between different keys")
+    void shouldNotShareCallsBetweenDifferentKeys() {
+        String outer = singleFlight.execute("a", () -> singleFlight.execute("b", () -> "b") + "a");
+
+        assertThat(outer).isEqualTo("ba");
+        assertThat(collapsed()).isZero();
+    }
+
+    @Test
+    @DisplayName("should start a new call after the key is forgotten")
+    void shouldStartANewCallAfterTheKeyIsForgotten() {
+        String result = singleFlight.execute("coffee", () -> {
+            singleFlight.forget("coffee");
+            return singleFlight.execute("coffee", () -> "fresh");
+        });
+
+        assertThat(result).isEqualTo("fresh");
+        assertThat(collapsed()).isZero();
+    }
+
+    private List<Future<String>> callConcurrently(String key, Supplier<String> call,
+                                                  CountDownLatch release) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(key, call)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (collapsed() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private double collapsed() {
+        return meterRegistry.counter("singleflight.collapsed", "name", "test").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
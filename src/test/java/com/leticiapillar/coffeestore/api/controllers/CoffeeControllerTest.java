@@ -1,33 +1,54 @@
 package com.leticiapillar.coffeestore.api.controllers;
 
+import com.leticiapillar.coffeestore.api.caching.ETags;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeCatalogDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuFilterDTO;
+import com.leticiapillar.coffeestore.api.dtos.CursorPageDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
+import com.leticiapillar.coffeestore.api.enums.CoffeeMenuSort;
 import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import com.leticiapillar.coffeestore.api.pagination.InvalidCursorException;
+import com.leticiapillar.coffeestore.api.pagination.TooManyIdsException;
+import com.leticiapillar.coffeestore.api.pagination.TooManyItemsException;
 import com.leticiapillar.coffeestore.api.services.CoffeeService;
+import com.leticiapillar.coffeestore.api.streaming.CoffeeStreamBroadcaster;
+import com.leticiapillar.coffeestore.api.streaming.StreamCapacityExceededException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static com.leticiapillar.coffeestore.api.mocks.MocksCofee.mockCoffeeCrudDTO;
 import static com.leticiapillar.coffeestore.api.mocks.MocksCofee.mockCoffeeDTO;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -39,6 +60,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CoffeeController.class)
@@ -51,6 +73,9 @@ class CoffeeControllerTest {
     @MockitoBean
     private CoffeeService coffeeService;
 
+    @MockitoBean
+    private CoffeeStreamBroadcaster coffeeStreamBroadcaster;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -73,7 +98,7 @@ class CoffeeControllerTest {
             CoffeeDTO coffeeDTOC = mockCoffeeDTO(UUID.randomUUID(), "Coffee C", CoffeeSize.LARGE, 74.99, true, null);
             List<CoffeeDTO> coffeeList = List.of(coffeeDTOA, coffeeDTOB, coffeeDTOC);
 
-            when(coffeeService.findAll()).thenReturn(coffeeList);
+            when(coffeeService.findCatalog()).thenReturn(new CoffeeCatalogDTO("v1", coffeeList));
 
             mockMvc.perform(get("/api/coffees")
                     .contentType(MediaType.APPLICATION_JSON))
@@ -89,13 +114,13 @@ class CoffeeControllerTest {
                     .andExpect(jsonPath("$[1].name", is(coffeeDTOB.name())))
                     .andExpect(jsonPath("$[2].name", is(coffeeDTOC.name())));
 
-            verify(coffeeService, times(1)).findAll();
+            verify(coffeeService, times(1)).findCatalog();
         }
 
         @Test
         @DisplayName("should return empty list when no coffees exist")
         void shouldReturnEmptyListWhenNoCoffeesExist() throws Exception {
-            when(coffeeService.findAll()).thenReturn(List.of());
+            when(coffeeService.findCatalog()).thenReturn(new CoffeeCatalogDTO("v1", List.of()));
 
             mockMvc.perform(get("/api/coffees")
                     .contentType(MediaType.APPLICATION_JSON))
@@ -104,19 +129,242 @@ class CoffeeControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$", hasSize(0)));
 
-            verify(coffeeService, times(1)).findAll();
+            verify(coffeeService, times(1)).findCatalog();
         }
 
         @Test
-        @DisplayName("should call service findAll exactly once")
-        void shouldCallServiceFindAllExactlyOnce() throws Exception {
-            when(coffeeService.findAll()).thenReturn(List.of(
+        @DisplayName("should call service findCatalog exactly once")
+        void shouldCallServiceFindCatalogExactlyOnce() throws Exception {
+            when(coffeeService.findCatalog()).thenReturn(new CoffeeCatalogDTO("v1", List.of(
                     mockCoffeeDTO(UUID.randomUUID(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null)
-            ));
+            )));
 
             mockMvc.perform(get("/api/coffees"));
 
-            verify(coffeeService, times(1)).findAll();
+            verify(coffeeService, times(1)).findCatalog();
+        }
+
+        @Test
+        @DisplayName("should return catalog version as ETag")
+        void shouldReturnCatalogVersionAsETag() throws Exception {
+            when(coffeeService.findCatalog()).thenReturn(new CoffeeCatalogDTO("v1", List.of()));
+
+            mockMvc.perform(get("/api/coffees"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""));
+        }
+
+        @Test
+        @DisplayName("should return 304 without body when If-None-Match matches catalog version")
+        void shouldReturn304WithoutBodyWhenIfNoneMatchMatchesCatalogVersion() throws Exception {
+            when(coffeeService.findCatalog()).thenReturn(new CoffeeCatalogDTO("v1", List.of(
+                    mockCoffeeDTO(UUID.randomUUID(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null))));
+
+            mockMvc.perform(get("/api/coffees").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("should return CBOR when the client accepts application/cbor")
+        void shouldReturnCborWhenTheClientAcceptsApplicationCbor() throws Exception {
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(UUID.randomUUID(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            when(coffeeService.findCatalog()).thenReturn(new CoffeeCatalogDTO("v1", List.of(coffeeDTO)));
+
+            byte[] body = mockMvc.perform(get("/api/coffees").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsByteArray();
+
+            assertThat(CBORMapper.builder().build().readValue(body, CoffeeDTO[].class)).containsExactly(coffeeDTO);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/coffees/stream")
+    class StreamTests {
+
+        @Test
+        @DisplayName("should open an event stream")
+        void shouldOpenAnEventStream() throws Exception {
+            when(coffeeStreamBroadcaster.subscribe(any())).thenReturn(new SseEmitter());
+
+            mockMvc.perform(get("/api/coffees/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+
+            verify(coffeeStreamBroadcaster, times(1)).subscribe(any());
+        }
+
+        @Test
+        @DisplayName("should return 503 with Retry-After when too many streams are open")
+        void shouldReturn503WithRetryAfterWhenTooManyStreamsAreOpen() throws Exception {
+            when(coffeeStreamBroadcaster.subscribe(any())).thenThrow(new StreamCapacityExceededException());
+
+            mockMvc.perform(get("/api/coffees/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/coffees/page")
+    class FindPageTests {
+
+        @Test
+        @DisplayName("should return page content and next cursor with status 200")
+        void shouldReturnPageContentAndNextCursorWithStatus200() throws Exception {
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(UUID.randomUUID(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            when(coffeeService.findPage("abc", 1)).thenReturn(new CursorPageDTO<>(List.of(coffeeDTO), "def"));
+
+            mockMvc.perform(get("/api/coffees/page")
+                    .param("cursor", "abc")
+                    .param("size", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].id", is(coffeeDTO.id().toString())))
+                    .andExpect(jsonPath("$.nextCursor", is("def")));
+
+            verify(coffeeService, times(1)).findPage("abc", 1);
+        }
+
+        @Test
+        @DisplayName("should request first page when no cursor is given")
+        void shouldRequestFirstPageWhenNoCursorIsGiven() throws Exception {
+            when(coffeeService.findPage(null, null)).thenReturn(new CursorPageDTO<>(List.of(), null));
+
+            mockMvc.perform(get("/api/coffees/page"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(0)))
+                    .andExpect(jsonPath("$.nextCursor", nullValue()));
+
+            verify(coffeeService, times(1)).findPage(null, null);
+        }
+
+        @Test
+        @DisplayName("should return 400 when cursor is invalid")
+        void shouldReturn400WhenCursorIsInvalid() throws Exception {
+            when(coffeeService.findPage(eq("broken"), any())).thenThrow(new InvalidCursorException("broken"));
+
+            mockMvc.perform(get("/api/coffees/page").param("cursor", "broken"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/coffees/menu")
+    class FindMenuTests {
+
+        @Test
+        @DisplayName("should return filtered coffees with size facets")
+        void shouldReturnFilteredCoffeesWithSizeFacets() throws Exception {
+            CoffeeDTO coffee = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 14.99, true, null);
+            CoffeeMenuFilterDTO filter = new CoffeeMenuFilterDTO(
+                    CoffeeSize.SMALL, new BigDecimal("10"), null, CoffeeMenuSort.PRICE, Sort.Direction.DESC);
+            when(coffeeService.findMenu(filter)).thenReturn(new CoffeeMenuDTO(
+                    List.of(coffee), Map.of(CoffeeSize.SMALL, 1L, CoffeeSize.MEDIUM, 2L, CoffeeSize.LARGE, 0L)));
+
+            mockMvc.perform(get("/api/coffees/menu")
+                            .param("size", "SMALL")
+                            .param("minPrice", "10")
+                            .param("sort", "PRICE")
+                            .param("direction", "DESC"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.coffees", hasSize(1)))
+                    .andExpect(jsonPath("$.coffees[0].name", is("Coffee A")))
+                    .andExpect(jsonPath("$.sizeFacets.MEDIUM", is(2)));
+
+            verify(coffeeService, times(1)).findMenu(filter);
+        }
+
+        @Test
+        @DisplayName("should sort by name ascending by default")
+        void shouldSortByNameAscendingByDefault() throws Exception {
+            CoffeeMenuFilterDTO filter = new CoffeeMenuFilterDTO(null, null, null, CoffeeMenuSort.NAME, Sort.Direction.ASC);
+            when(coffeeService.findMenu(filter)).thenReturn(new CoffeeMenuDTO(List.of(), Map.of()));
+
+            mockMvc.perform(get("/api/coffees/menu"))
+                    .andExpect(status().isOk());
+
+            verify(coffeeService, times(1)).findMenu(filter);
+        }
+
+        @Test
+        @DisplayName("should return 400 for an unknown sort")
+        void shouldReturn400ForAnUnknownSort() throws Exception {
+            mockMvc.perform(get("/api/coffees/menu").param("sort", "popularity"))
+                    .andExpect(status().isBadRequest());
+
+            verify(coffeeService, never()).findMenu(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/coffees/search")
+    class SearchTests {
+
+        @Test
+        @DisplayName("should return matching coffees with status 200")
+        void shouldReturnMatchingCoffeesWithStatus200() throws Exception {
+            CoffeeDTO latte = mockCoffeeDTO(coffeeId, "Latte", CoffeeSize.SMALL, 14.99, true, null);
+            when(coffeeService.search("lat", 5)).thenReturn(List.of(latte));
+
+            mockMvc.perform(get("/api/coffees/search").param("q", "lat").param("size", "5"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].name", is("Latte")));
+
+            verify(coffeeService, times(1)).search("lat", 5);
+        }
+
+        @Test
+        @DisplayName("should return 400 when query is missing")
+        void shouldReturn400WhenQueryIsMissing() throws Exception {
+            mockMvc.perform(get("/api/coffees/search"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+
+            verify(coffeeService, never()).search(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/coffees?ids=")
+    class FindAllByIdTests {
+
+        @Test
+        @DisplayName("should return one entry per requested id with status 200")
+        void shouldReturnOneEntryPerRequestedIdWithStatus200() throws Exception {
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            UUID missingId = UUID.randomUUID();
+            when(coffeeService.findAllById(List.of(missingId, coffeeId))).thenReturn(List.of(
+                    LookupEntryDTO.of(missingId, null),
+                    LookupEntryDTO.of(coffeeId, coffeeDTO)));
+
+            mockMvc.perform(get("/api/coffees").param("ids", missingId + "," + coffeeId))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].id", is(missingId.toString())))
+                    .andExpect(jsonPath("$[0].found", is(false)))
+                    .andExpect(jsonPath("$[1].found", is(true)))
+                    .andExpect(jsonPath("$[1].value.name", is("Coffee A")));
+
+            verify(coffeeService, never()).findCatalog();
+        }
+
+        @Test
+        @DisplayName("should return 400 when too many ids are requested")
+        void shouldReturn400WhenTooManyIdsAreRequested() throws Exception {
+            when(coffeeService.findAllById(any())).thenThrow(new TooManyIdsException(1));
+
+            mockMvc.perform(get("/api/coffees").param("ids", coffeeId + "," + UUID.randomUUID()))
+                    .andExpect(status().isBadRequest());
         }
     }
 
@@ -144,6 +392,19 @@ class CoffeeControllerTest {
             verify(coffeeService, times(1)).findById(coffeeId);
         }
 
+        @Test
+        @DisplayName("should return 304 when If-None-Match matches coffee ETag")
+        void shouldReturn304WhenIfNoneMatchMatchesCoffeeETag() throws Exception {
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            when(coffeeService.findById(coffeeId)).thenReturn(Optional.of(coffeeDTO));
+
+            mockMvc.perform(get("/api/coffees/{id}", coffeeId)
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"" + ETags.of(coffeeDTO) + "\""))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
         @Test
         @DisplayName("should return 404 when coffee not found")
         void shouldReturn404WhenCoffeeNotFound() throws Exception {
@@ -246,6 +507,45 @@ class CoffeeControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/coffees/batch")
+    class CreateAllTests {
+
+        @Test
+        @DisplayName("should create all coffees and return 201 with their ids")
+        void shouldCreateAllCoffeesAndReturn201WithTheirIds() throws Exception {
+            List<CoffeeCrudDTO> coffees = List.of(
+                    mockCoffeeCrudDTO("Coffee A", CoffeeSize.SMALL, 34.99),
+                    mockCoffeeCrudDTO("Coffee B", CoffeeSize.LARGE, 74.99));
+            List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+            when(coffeeService.createAll(coffees)).thenReturn(ids);
+
+            mockMvc.perform(post("/api/coffees/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(coffees)))
+                    .andDo(print())
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0]", is(ids.get(0).toString())))
+                    .andExpect(jsonPath("$[1]", is(ids.get(1).toString())));
+
+            verify(coffeeService, times(1)).createAll(coffees);
+        }
+
+        @Test
+        @DisplayName("should return 400 when too many coffees are sent")
+        void shouldReturn400WhenTooManyCoffeesAreSent() throws Exception {
+            when(coffeeService.createAll(any())).thenThrow(new TooManyItemsException(1));
+
+            mockMvc.perform(post("/api/coffees/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(
+                            mockCoffeeCrudDTO("Coffee A", CoffeeSize.SMALL, 34.99),
+                            mockCoffeeCrudDTO("Coffee B", CoffeeSize.LARGE, 74.99)))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("PUT /api/coffees/{id}")
     class UpdateTests {
@@ -303,6 +603,56 @@ class CoffeeControllerTest {
             // Assert
             verify(coffeeService, times(1)).update(eq(coffeeId), eq(coffeeCrudDTO));
         }
+
+        @Test
+        @DisplayName("should pass If-Match to the service so it is checked in the update transaction")
+        void shouldPassIfMatchToTheServiceSoItIsCheckedInTheUpdateTransaction() throws Exception {
+            CoffeeDTO currentCoffee = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO updatedCoffee = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, LocalDateTime.now());
+            CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.MEDIUM, 54.99);
+            String ifMatch = "\"" + ETags.of(currentCoffee) + "\"";
+            when(coffeeService.update(coffeeId, coffeeCrudDTO, ifMatch)).thenReturn(Optional.of(updatedCoffee));
+
+            mockMvc.perform(put("/api/coffees/{id}", coffeeId)
+                    .header(HttpHeaders.IF_MATCH, ifMatch)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(coffeeCrudDTO)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETags.of(updatedCoffee) + "\""));
+
+            verify(coffeeService, times(1)).update(coffeeId, coffeeCrudDTO, ifMatch);
+            verify(coffeeService, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("should return 412 when If-Match does not match the current row")
+        void shouldReturn412WhenIfMatchDoesNotMatchTheCurrentRow() throws Exception {
+            CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.MEDIUM, 54.99);
+            when(coffeeService.update(coffeeId, coffeeCrudDTO, "\"stale\""))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(Coffee.class, coffeeId));
+
+            mockMvc.perform(put("/api/coffees/{id}", coffeeId)
+                    .header(HttpHeaders.IF_MATCH, "\"stale\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(coffeeCrudDTO)))
+                    .andDo(print())
+                    .andExpect(status().isPreconditionFailed());
+        }
+
+        @Test
+        @DisplayName("should return 412 when coffee changed concurrently")
+        void shouldReturn412WhenCoffeeChangedConcurrently() throws Exception {
+            CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.MEDIUM, 54.99);
+            when(coffeeService.update(eq(coffeeId), any(CoffeeCrudDTO.class)))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(Coffee.class, coffeeId));
+
+            mockMvc.perform(put("/api/coffees/{id}", coffeeId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(coffeeCrudDTO)))
+                    .andDo(print())
+                    .andExpect(status().isPreconditionFailed());
+        }
     }
 
     @Nested
@@ -313,7 +663,7 @@ class CoffeeControllerTest {
         @DisplayName("should activate coffee and return 204 No Content")
         void shouldActivateCoffeeAndReturn204NoContent() throws Exception {
             // Arrange
-            doNothing().when(coffeeService).activate(coffeeId);
+            when(coffeeService.activate(coffeeId)).thenReturn(true);
 
             // Act & Assert
             mockMvc.perform(put("/api/coffees/{id}/activate", coffeeId))
@@ -327,7 +677,7 @@ class CoffeeControllerTest {
         @DisplayName("should call service activate with correct id")
         void shouldCallServiceActivateWithCorrectId() throws Exception {
             // Arrange
-            doNothing().when(coffeeService).activate(any(UUID.class));
+            when(coffeeService.activate(any(UUID.class))).thenReturn(true);
 
             // Act
             mockMvc.perform(put("/api/coffees/{id}/activate", coffeeId));
@@ -336,11 +686,23 @@ class CoffeeControllerTest {
             verify(coffeeService, times(1)).activate(eq(coffeeId));
         }
 
+        @Test
+        @DisplayName("should return 404 when coffee to activate not found")
+        void shouldReturn404WhenCoffeeToActivateNotFound() throws Exception {
+            when(coffeeService.activate(coffeeId)).thenReturn(false);
+
+            mockMvc.perform(put("/api/coffees/{id}/activate", coffeeId))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+
+            verify(coffeeService, times(1)).activate(coffeeId);
+        }
+
         @Test
         @DisplayName("should not have response body on activate")
         void shouldNotHaveResponseBodyOnActivate() throws Exception {
             // Arrange
-            doNothing().when(coffeeService).activate(coffeeId);
+            when(coffeeService.activate(coffeeId)).thenReturn(true);
 
             // Act & Assert
             mockMvc.perform(put("/api/coffees/{id}/activate", coffeeId))
@@ -359,7 +721,7 @@ class CoffeeControllerTest {
         @DisplayName("should inactivate coffee and return 204 No Content")
         void shouldInactivateCoffeeAndReturn204NoContent() throws Exception {
             // Arrange
-            doNothing().when(coffeeService).inactivate(coffeeId);
+            when(coffeeService.inactivate(coffeeId)).thenReturn(true);
 
             // Act & Assert
             mockMvc.perform(delete("/api/coffees/{id}/inactivate", coffeeId))
@@ -373,7 +735,7 @@ class CoffeeControllerTest {
         @DisplayName("should call service inactivate with correct id")
         void shouldCallServiceInactivateWithCorrectId() throws Exception {
             // Arrange
-            doNothing().when(coffeeService).inactivate(any(UUID.class));
+            when(coffeeService.inactivate(any(UUID.class))).thenReturn(true);
 
             // Act
             mockMvc.perform(delete("/api/coffees/{id}/inactivate", coffeeId));
@@ -382,11 +744,23 @@ class CoffeeControllerTest {
             verify(coffeeService, times(1)).inactivate(eq(coffeeId));
         }
 
+        @Test
+        @DisplayName("should return 404 when coffee to inactivate not found")
+        void shouldReturn404WhenCoffeeToInactivateNotFound() throws Exception {
+            when(coffeeService.inactivate(coffeeId)).thenReturn(false);
+
+            mockMvc.perform(delete("/api/coffees/{id}/inactivate", coffeeId))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+
+            verify(coffeeService, times(1)).inactivate(coffeeId);
+        }
+
         @Test
         @DisplayName("should not have response body on inactivate")
         void shouldNotHaveResponseBodyOnInactivate() throws Exception {
             // Arrange
-            doNothing().when(coffeeService).inactivate(coffeeId);
+            when(coffeeService.inactivate(coffeeId)).thenReturn(true);
 
             // Act & Assert
             mockMvc.perform(delete("/api/coffees/{id}/inactivate", coffeeId))
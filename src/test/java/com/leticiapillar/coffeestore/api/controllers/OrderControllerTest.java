@@ -0,0 +1,135 @@
+package com.leticiapillar.coffeestore.api.controllers;
+
+import com.leticiapillar.coffeestore.api.dtos.OrderCrudDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderItemCrudDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderItemDTO;
+import com.leticiapillar.coffeestore.api.enums.OrderStatus;
+import com.leticiapillar.coffeestore.api.orders.InvalidOrderException;
+import com.leticiapillar.coffeestore.api.orders.OrderQueueFullException;
+import com.leticiapillar.coffeestore.api.services.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderController.class)
+@DisplayName("OrderController Tests")
+class OrderControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderService orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID orderId;
+    private OrderCrudDTO request;
+
+    @BeforeEach
+    void setUp() {
+        orderId = UUID.randomUUID();
+        request = new OrderCrudDTO(UUID.randomUUID(), List.of(new OrderItemCrudDTO(UUID.randomUUID(), 2)));
+    }
+
+    @Nested
+    @DisplayName("POST /api/orders")
+    class PlaceTests {
+
+        @Test
+        @DisplayName("should accept the order with status 202 and its location")
+        void shouldAcceptTheOrderWithStatus202AndItsLocation() throws Exception {
+            when(orderService.place(request)).thenReturn(order(OrderStatus.PENDING));
+
+            mockMvc.perform(post("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/orders/" + orderId))
+                    .andExpect(jsonPath("$.id", is(orderId.toString())))
+                    .andExpect(jsonPath("$.status", is("PENDING")))
+                    .andExpect(jsonPath("$.total", is(19.0)));
+        }
+
+        @Test
+        @DisplayName("should return 400 when the order is invalid")
+        void shouldReturn400WhenTheOrderIsInvalid() throws Exception {
+            when(orderService.place(any())).thenThrow(new InvalidOrderException("Unknown or inactive coffee"));
+
+            mockMvc.perform(post("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 503 with Retry-After when the order queue is full")
+        void shouldReturn503WithRetryAfterWhenTheOrderQueueIsFull() throws Exception {
+            when(orderService.place(any())).thenThrow(new OrderQueueFullException());
+
+            mockMvc.perform(post("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/orders/{id}")
+    class FindByIdTests {
+
+        @Test
+        @DisplayName("should return the order with status 200")
+        void shouldReturnTheOrderWithStatus200() throws Exception {
+            when(orderService.findById(orderId)).thenReturn(Optional.of(order(OrderStatus.PLACED)));
+
+            mockMvc.perform(get("/api/orders/{id}", orderId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status", is("PLACED")))
+                    .andExpect(jsonPath("$.items[0].unitPrice", is(9.5)));
+        }
+
+        @Test
+        @DisplayName("should return 404 when the order does not exist")
+        void shouldReturn404WhenTheOrderDoesNotExist() throws Exception {
+            when(orderService.findById(orderId)).thenReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/orders/{id}", orderId))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    private OrderDTO order(OrderStatus status) {
+        return new OrderDTO(orderId, request.clientId(), status,
+                List.of(new OrderItemDTO(UUID.randomUUID(), request.items().getFirst().coffeeId(), 2, new BigDecimal("9.50"))),
+                new BigDecimal("19.00"), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,201 @@
+package com.leticiapillar.coffeestore.api.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("should route read-only transactions to the replica")
+    void shouldRouteReadOnlyTransactionsToTheReplica() {
+        Routing routing = routing(Duration.ofMinutes(1));
+
+        String node = routing.readOnly().execute(status -> routing.node());
+
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("should route read-write transactions to the primary")
+    void shouldRouteReadWriteTransactionsToThePrimary() {
+        Routing routing = routing(Duration.ofMinutes(1));
+
+        String node = routing.readWrite().execute(status -> routing.node());
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("should route work outside a transaction to the primary")
+    void shouldRouteWorkOutsideATransactionToThePrimary() {
+        Routing routing = routing(Duration.ofMinutes(1));
+
+        assertThat(routing.node()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("should keep the caller's reads on the primary within the sticky window after its write")
+    void shouldKeepTheCallersReadsOnThePrimaryWithinTheStickyWindowAfterItsWrite() {
+        Routing routing = routing(Duration.ofMinutes(1));
+        List<Long> deadlines = new ArrayList<>();
+
+        try (ReplicaStickiness.Scope ignored = routing.stickiness().open(0, deadlines::add)) {
+            routing.readWrite().executeWithoutResult(status -> routing.write());
+
+            String node = routing.readOnly().execute(status -> routing.node());
+
+            assertThat(node).isEqualTo("primary");
+        }
+        assertThat(deadlines).singleElement().satisfies(until -> assertThat(until).isGreaterThan(System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("should keep a caller on the primary while the deadline from its earlier write holds")
+    void shouldKeepACallerOnThePrimaryWhileTheDeadlineFromItsEarlierWriteHolds() {
+        Routing routing = routing(Duration.ofMinutes(1));
+
+        try (ReplicaStickiness.Scope ignored = routing.stickiness()
+                .open(System.currentTimeMillis() + 60_000, until -> { })) {
+            String node = routing.readOnly().execute(status -> routing.node());
+
+            assertThat(node).isEqualTo("primary");
+        }
+    }
+
+    @Test
+    @DisplayName("should return reads to the replica once the sticky window has passed")
+    void shouldReturnReadsToTheReplicaOnceTheStickyWindowHasPassed() {
+        Routing routing = routing(Duration.ZERO);
+
+        try (ReplicaStickiness.Scope ignored = routing.stickiness().open(0, until -> { })) {
+            routing.readWrite().executeWithoutResult(status -> routing.write());
+
+            String node = routing.readOnly().execute(status -> routing.node());
+
+            assertThat(node).isEqualTo("replica");
+        }
+    }
+
+    @Test
+    @DisplayName("should not start the sticky window when the write rolls back")
+    void shouldNotStartTheStickyWindowWhenTheWriteRollsBack() {
+        Routing routing = routing(Duration.ofMinutes(1));
+
+        try (ReplicaStickiness.Scope ignored = routing.stickiness().open(0, until -> { })) {
+            routing.readWrite().executeWithoutResult(status -> {
+                routing.write();
+                status.setRollbackOnly();
+            });
+
+            String node = routing.readOnly().execute(status -> routing.node());
+
+            assertThat(node).isEqualTo("replica");
+        }
+    }
+
+    @Test
+    @DisplayName("should keep serving reads from the replica while background writes commit")
+    void shouldKeepServingReadsFromTheReplicaWhileBackgroundWritesCommit() throws Exception {
+        Routing routing = routing(Duration.ofMinutes(1));
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger backgroundCommits = new AtomicInteger();
+        Thread writer = Thread.ofPlatform().start(() -> {
+            while (writing.get()) {
+                routing.readWrite().executeWithoutResult(status -> routing.write());
+                backgroundCommits.incrementAndGet();
+            }
+        });
+        try {
+            while (backgroundCommits.get() < 10) {
+                Thread.sleep(1);
+            }
+            try (ReplicaStickiness.Scope ignored = routing.stickiness().open(0, until -> { })) {
+                for (int i = 0; i < 20; i++) {
+                    String node = routing.readOnly().execute(status -> routing.node());
+
+                    assertThat(node).isEqualTo("replica");
+                }
+            }
+        } finally {
+            writing.set(false);
+            writer.join();
+        }
+    }
+
+    private Routing routing(Duration stickyWindow) {
+        ReplicaStickiness stickiness = new ReplicaStickiness(Clock.systemUTC(), stickyWindow);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, stickiness));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(stickiness);
+        return new Routing(new JdbcTemplate(dataSource), transactionManager, stickiness);
+    }
+
+    private static EmbeddedDatabase database(String node) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node (name) values (?)", node);
+        return database;
+    }
+
+    private record Routing(JdbcTemplate jdbcTemplate, DataSourceTransactionManager transactionManager,
+                           ReplicaStickiness stickiness) {
+
+        TransactionTemplate readOnly() {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            return template;
+        }
+
+        TransactionTemplate readWrite() {
+            return new TransactionTemplate(transactionManager);
+        }
+
+        String node() {
+            return jdbcTemplate.queryForObject("select name from node", String.class);
+        }
+
+        void write() {
+            jdbcTemplate.update("update node set name = name");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.leticiapillar.coffeestore.api.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private InMemoryIdempotencyStore store;
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+    private int status;
+    private boolean retryWhileRunning;
+    private MockHttpServletResponse concurrentRetry;
+    private CountDownLatch running;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore(Clock.systemUTC(), Duration.ofHours(1), Duration.ofSeconds(30), 100);
+        filter = new IdempotencyFilter(store, Duration.ofMillis(100), new SimpleMeterRegistry());
+        executions = new AtomicInteger();
+        status = HttpStatus.CREATED.value();
+    }
+
+    @Test
+    @DisplayName("should replay the first response without running the request again")
+    void shouldReplayTheFirstResponseWithoutRunningTheRequestAgain() throws Exception {
+        MockHttpServletResponse first = perform("key-1", "{\"name\":\"Ana\"}");
+        MockHttpServletResponse retry = perform("key-1", "{\"name\":\"Ana\"}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(retry.getHeader(HttpHeaders.LOCATION)).isEqualTo(first.getHeader(HttpHeaders.LOCATION));
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+    }
+
+    @Test
+    @DisplayName("should run requests with different keys independently")
+    void shouldRunRequestsWithDifferentKeysIndependently() throws Exception {
+        perform("key-1", "{\"name\":\"Ana\"}");
+        perform("key-2", "{\"name\":\"Ana\"}");
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should run every request without an Idempotency-Key")
+    void shouldRunEveryRequestWithoutAnIdempotencyKey() throws Exception {
+        perform(null, "{\"name\":\"Ana\"}");
+        perform(null, "{\"name\":\"Ana\"}");
+
+        assertThat(executions).hasValue(2);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should return 422 when the key is reused with a different body")
+    void shouldReturn422WhenTheKeyIsReusedWithADifferentBody() throws Exception {
+        perform("key-1", "{\"name\":\"Ana\"}");
+        MockHttpServletResponse reused = perform("key-1", "{\"name\":\"Bia\"}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_CONTENT.value());
+    }
+
+    @Test
+    @DisplayName("should run the retry again when the first attempt failed with a server error")
+    void shouldRunTheRetryAgainWhenTheFirstAttemptFailedWithAServerError() throws Exception {
+        status = HttpStatus.SERVICE_UNAVAILABLE.value();
+        perform("key-1", "{\"name\":\"Ana\"}");
+        status = HttpStatus.CREATED.value();
+        MockHttpServletResponse retry = perform("key-1", "{\"name\":\"Ana\"}");
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+    }
+
+    @Test
+    @DisplayName("should return 409 when the retry arrives while the original request is still running")
+    void shouldReturn409WhenTheRetryArrivesWhileTheOriginalRequestIsStillRunning() throws Exception {
+        retryWhileRunning = true;
+
+        MockHttpServletResponse first = perform("key-1", "{\"name\":\"Ana\"}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(concurrentRetry.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(concurrentRetry.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("should hand the response to a concurrent retry on this instance without polling the store")
+    void shouldHandTheResponseToAConcurrentRetryOnThisInstanceWithoutPollingTheStore() throws Exception {
+        AtomicInteger finds = new AtomicInteger();
+        filter = new IdempotencyFilter(countingFinds(finds), Duration.ofSeconds(5), new SimpleMeterRegistry());
+        running = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(this::performUnchecked);
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> retry = CompletableFuture.supplyAsync(this::performUnchecked);
+        Thread.sleep(50);
+        release.countDown();
+
+        MockHttpServletResponse replayed = retry.get(5, TimeUnit.SECONDS);
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(executions).hasValue(1);
+        assertThat(replayed.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(replayed.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        assertThat(finds).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("should return 400 when the key is too long")
+    void shouldReturn400WhenTheKeyIsTooLong() throws Exception {
+        MockHttpServletResponse response = perform("k".repeat(256), "{\"name\":\"Ana\"}");
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(executions).hasValue(0);
+    }
+
+    private MockHttpServletResponse perform(String key, String body) throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/clients");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain(key, body));
+        return response;
+    }
+
+    private MockHttpServletResponse performUnchecked() {
+        try {
+            return perform("key-1", "{\"name\":\"Ana\"}");
+        } catch (IOException | ServletException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IdempotencyStore countingFinds(AtomicInteger finds) {
+        return new IdempotencyStore() {
+            @Override
+            public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+                return store.claim(key, fingerprint);
+            }
+
+            @Override
+            public Optional<IdempotencyRecord> find(String key) {
+                finds.incrementAndGet();
+                return store.find(key);
+            }
+
+            @Override
+            public void complete(String key, IdempotentResponse response) {
+                store.complete(key, response);
+            }
+
+            @Override
+            public void release(String key) {
+                store.release(key);
+            }
+        };
+    }
+
+    private FilterChain chain(String key, String body) {
+        return (request, response) -> {
+            int execution = executions.incrementAndGet();
+            if (running != null) {
+                running.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (retryWhileRunning) {
+                retryWhileRunning = false;
+                concurrentRetry = perform(key, body);
+            }
+            String name = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(status);
+            httpResponse.setHeader(HttpHeaders.LOCATION, "/api/clients/" + execution);
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.getWriter().write(name);
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.leticiapillar.coffeestore.api.idempotency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JdbcIdempotencyStore Tests")
+class JdbcIdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/migration/V5__idempotency_keys.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("should hand the key to the first caller only")
+    void shouldHandTheKeyToTheFirstCallerOnly() {
+        JdbcIdempotencyStore store = store(NOW);
+
+        assertThat(store.claim("key-1", "fingerprint")).isEmpty();
+        assertThat(store.claim("key-1", "fingerprint"))
+                .hasValueSatisfying(record -> assertThat(record.completed()).isFalse());
+    }
+
+    @Test
+    @DisplayName("should return the stored response once the request completed")
+    void shouldReturnTheStoredResponseOnceTheRequestCompleted() {
+        JdbcIdempotencyStore store = store(NOW);
+        store.claim("key-1", "fingerprint");
+
+        store.complete("key-1", new IdempotentResponse(201,
+                Map.of(HttpHeaders.LOCATION, "/api/clients/1"), "{}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(store.claim("key-1", "fingerprint")).hasValueSatisfying(record -> {
+            assertThat(record.fingerprint()).isEqualTo("fingerprint");
+            assertThat(record.response().status()).isEqualTo(201);
+            assertThat(record.response().headers()).containsEntry(HttpHeaders.LOCATION, "/api/clients/1");
+            assertThat(record.response().body()).asString(StandardCharsets.UTF_8).isEqualTo("{}");
+        });
+    }
+
+    @Test
+    @DisplayName("should free the key when the request is released")
+    void shouldFreeTheKeyWhenTheRequestIsReleased() {
+        JdbcIdempotencyStore store = store(NOW);
+        store.claim("key-1", "fingerprint");
+
+        store.release("key-1");
+
+        assertThat(store.claim("key-1", "fingerprint")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should let a new request claim an expired key")
+    void shouldLetANewRequestClaimAnExpiredKey() {
+        store(NOW).claim("key-1", "fingerprint");
+        store(NOW).complete("key-1", new IdempotentResponse(201, Map.of(), new byte[0]));
+
+        JdbcIdempotencyStore later = store(NOW.plus(Duration.ofDays(2)));
+
+        assertThat(later.find("key-1")).isEmpty();
+        assertThat(later.claim("key-1", "fingerprint")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should purge expired keys")
+    void shouldPurgeExpiredKeys() {
+        store(NOW).claim("key-1", "fingerprint");
+        store(NOW.plus(Duration.ofHours(1))).claim("key-2", "fingerprint");
+
+        int purged = store(NOW.plus(Duration.ofMinutes(30))).purgeExpired();
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from idempotency_key", Integer.class)).isEqualTo(1);
+    }
+
+    private JdbcIdempotencyStore store(Instant now) {
+        return new JdbcIdempotencyStore(jdbcTemplate, Clock.fixed(now, ZoneOffset.UTC), Duration.ofDays(1),
+                Duration.ofSeconds(30));
+    }
+}
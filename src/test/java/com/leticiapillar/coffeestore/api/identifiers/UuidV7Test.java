@@ -0,0 +1,60 @@
+package com.leticiapillar.coffeestore.api.identifiers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("should generate version 7 uuids with the RFC variant")
+    void shouldGenerateVersion7UuidsWithTheRfcVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should embed the current unix timestamp")
+    void shouldEmbedTheCurrentUnixTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        // bursts from other tests may have borrowed a few milliseconds ahead of the clock
+        assertThat(UuidV7.timestamp(uuid)).isBetween(before, after + 100);
+    }
+
+    @Test
+    @DisplayName("should generate strictly increasing uuids within the same millisecond")
+    void shouldGenerateStrictlyIncreasingUuids() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7.generate());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(uuids.get(i)).isGreaterThan(uuids.get(i - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("should not repeat uuids across threads")
+    void shouldNotRepeatUuidsAcrossThreads() {
+        List<UUID> uuids = IntStream.range(0, 200_000)
+                .parallel()
+                .mapToObj(i -> UuidV7.generate())
+                .toList();
+
+        assertThat(new HashSet<>(uuids)).hasSize(uuids.size());
+    }
+}
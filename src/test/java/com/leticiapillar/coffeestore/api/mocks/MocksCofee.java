@@ -20,11 +20,12 @@ public class MocksCofee {
                 .enabled(enabled)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(updatedAt)
+                .version(0L)
                 .build();
     }
 
     public static CoffeeDTO mockCoffeeDTO(UUID id, String name, CoffeeSize size, Double price, boolean enabled, LocalDateTime updatedAt) {
-        return new CoffeeDTO(id, name, size, new BigDecimal(price), enabled, LocalDateTime.now(), updatedAt);
+        return new CoffeeDTO(id, name, size, new BigDecimal(price), enabled, LocalDateTime.now(), updatedAt, 0L);
     }
 
     public static CoffeeCrudDTO mockCoffeeCrudDTO(String name, CoffeeSize size, Double price) {
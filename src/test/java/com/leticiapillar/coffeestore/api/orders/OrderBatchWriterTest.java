@@ -0,0 +1,143 @@
+package com.leticiapillar.coffeestore.api.orders;
+
+import com.leticiapillar.coffeestore.api.dtos.OrderDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderItemDTO;
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.enums.OrderStatus;
+import com.leticiapillar.coffeestore.api.identifiers.UuidV7;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import com.leticiapillar.coffeestore.api.models.Order;
+import com.leticiapillar.coffeestore.api.repositories.ClientRepository;
+import com.leticiapillar.coffeestore.api.repositories.CoffeeRepository;
+import com.leticiapillar.coffeestore.api.repositories.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OrderBatchWriter Tests")
+class OrderBatchWriterTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private CoffeeRepository coffeeRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private OrderBatchWriter writer;
+    private Client client;
+    private Coffee coffee;
+
+    @BeforeEach
+    void setUp() {
+        writer = new OrderBatchWriter(entityManager, new TransactionTemplate(transactionManager), 100, 10,
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+        writer.start();
+        client = clientRepository.save(Client.builder().name("Ana").email("ana@coffeestore.com").build());
+        coffee = coffeeRepository.save(Coffee.builder()
+                .name("Espresso")
+                .size(CoffeeSize.SMALL)
+                .price(new BigDecimal("9.50"))
+                .build());
+    }
+
+    // the writer commits, so the rows are removed here instead of by a test rollback
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("delete from OrderItem").executeUpdate();
+            entityManager.createQuery("delete from CustomerOrder").executeUpdate();
+        });
+        coffeeRepository.deleteAllInBatch();
+        clientRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("should write queued orders with their items")
+    void shouldWriteQueuedOrdersWithTheirItems() throws InterruptedException {
+        List<OrderDTO> orders = List.of(order(coffee.getId()), order(coffee.getId()), order(coffee.getId()));
+
+        orders.forEach(writer::offer);
+        awaitWritten();
+
+        for (OrderDTO expected : orders) {
+            Order written = new TransactionTemplate(transactionManager).execute(status -> {
+                Order order = orderRepository.findWithItemsById(expected.id()).orElseThrow();
+                order.getItems().size();
+                return order;
+            });
+            assertThat(written.getStatus()).isEqualTo(OrderStatus.PLACED);
+            assertThat(written.getTotal()).isEqualByComparingTo("19.00");
+            assertThat(written.getItems()).singleElement()
+                    .satisfies(item -> assertThat(item.getUnitPrice()).isEqualByComparingTo("9.50"));
+        }
+    }
+
+    @Test
+    @DisplayName("should still write the good orders of a batch that contains a failing one")
+    void shouldStillWriteTheGoodOrdersOfABatchThatContainsAFailingOne() throws InterruptedException {
+        OrderDTO good = order(coffee.getId());
+        OrderDTO unknownCoffee = order(UUID.randomUUID());
+
+        writer.offer(unknownCoffee);
+        writer.offer(good);
+        awaitWritten();
+
+        assertThat(orderRepository.existsById(good.id())).isTrue();
+        assertThat(orderRepository.existsById(unknownCoffee.id())).isFalse();
+    }
+
+    @Test
+    @DisplayName("should refuse orders once stopped")
+    void shouldRefuseOrdersOnceStopped() {
+        writer.stop();
+
+        assertThat(writer.offer(order(coffee.getId()))).isFalse();
+    }
+
+    private OrderDTO order(UUID coffeeId) {
+        return new OrderDTO(UuidV7.generate(), client.getId(), OrderStatus.PENDING,
+                List.of(new OrderItemDTO(UuidV7.generate(), coffeeId, 2, new BigDecimal("9.50"))),
+                new BigDecimal("19.00"), LocalDateTime.now());
+    }
+
+    private void awaitWritten() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (writer.pendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(writer.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,37 @@
+package com.leticiapillar.coffeestore.api.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PageCursor Tests")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("should decode an encoded cursor")
+    void shouldDecodeAnEncodedCursor() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 3, 14, 9, 30, 15, 123456000), UUID.randomUUID());
+
+        assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("should produce a url safe token")
+    void shouldProduceAUrlSafeToken() {
+        PageCursor cursor = new PageCursor(LocalDateTime.now(), UUID.randomUUID());
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
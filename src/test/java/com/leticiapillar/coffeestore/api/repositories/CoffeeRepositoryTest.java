@@ -0,0 +1,77 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.models.Coffee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("CoffeeRepository Tests")
+class CoffeeRepositoryTest {
+
+    @Autowired
+    private CoffeeRepository coffeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        save("Espresso", CoffeeSize.SMALL, "9.90", true);
+        save("Ristretto", CoffeeSize.SMALL, "11.50", true);
+        save("Latte", CoffeeSize.MEDIUM, "14.90", true);
+        save("Mocha", CoffeeSize.LARGE, "19.90", true);
+        save("Seasonal Special", CoffeeSize.LARGE, "24.90", false);
+    }
+
+    @Test
+    @DisplayName("should list only enabled coffees matching the filters in the requested order")
+    void shouldListOnlyEnabledCoffeesMatchingTheFiltersInTheRequestedOrder() {
+        Specification<Coffee> specification = CoffeeSpecifications.enabled()
+                .and(CoffeeSpecifications.hasSize(CoffeeSize.SMALL))
+                .and(CoffeeSpecifications.priceAtMost(new BigDecimal("12")));
+
+        List<Coffee> coffees = coffeeRepository.findAll(specification, Sort.by(Sort.Direction.DESC, "price"));
+
+        assertThat(coffees).extracting(Coffee::getName).containsExactly("Ristretto", "Espresso");
+    }
+
+    @Test
+    @DisplayName("should count enabled coffees per size including empty sizes")
+    void shouldCountEnabledCoffeesPerSizeIncludingEmptySizes() {
+        Specification<Coffee> specification = CoffeeSpecifications.enabled()
+                .and(CoffeeSpecifications.priceAtLeast(new BigDecimal("10")));
+
+        Map<CoffeeSize, Long> counts = coffeeRepository.countBySize(specification);
+
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(
+                CoffeeSize.SMALL, 1L,
+                CoffeeSize.MEDIUM, 1L,
+                CoffeeSize.LARGE, 1L));
+        assertThat(coffeeRepository.countBySize(CoffeeSpecifications.hasSize(CoffeeSize.MEDIUM)))
+                .containsEntry(CoffeeSize.SMALL, 0L)
+                .containsEntry(CoffeeSize.LARGE, 0L);
+    }
+
+    private void save(String name, CoffeeSize size, String price, boolean enabled) {
+        Coffee coffee = coffeeRepository.saveAndFlush(Coffee.builder()
+                .name(name)
+                .size(size)
+                .price(new BigDecimal(price))
+                .build());
+        if (!enabled) {
+            coffeeRepository.updateEnabled(coffee.getId(), false, coffee.getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.leticiapillar.coffeestore.api.repositories;
+
+import com.leticiapillar.coffeestore.api.config.SecondLevelCacheConfig;
+import com.leticiapillar.coffeestore.api.config.SecondLevelCacheProperties;
+import com.leticiapillar.coffeestore.api.models.Address;
+import com.leticiapillar.coffeestore.api.models.Client;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the cache is only filled by committed transactions, so the rows are committed and removed after each test
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(SecondLevelCacheConfig.class)
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Second level cache Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        client = clientRepository.save(Client.builder().name("Ana").email("ana@coffeestore.com").build());
+        addressRepository.save(Address.builder().street("Rua A").city("City").client(client).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        addressRepository.deleteAllInBatch();
+        clientRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("should load a client and its addresses from the cache once warm")
+    void shouldLoadAClientAndItsAddressesFromTheCacheOnceWarm() {
+        assertThat(countAddresses(client.getId())).isEqualTo(1);
+        statistics.clear();
+
+        int addresses = countAddresses(client.getId());
+
+        assertThat(addresses).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("should look up cached clients without a statement and report misses as null")
+    void shouldLookUpCachedClientsWithoutAStatementAndReportMissesAsNull() {
+        clientRepository.findById(client.getId()).orElseThrow();
+        statistics.clear();
+        UUID missingId = UUID.randomUUID();
+
+        List<Client> clients = transactionTemplate.execute(status ->
+                clientRepository.findMultiple(List.of(missingId, client.getId())));
+
+        assertThat(clients).hasSize(2);
+        assertThat(clients.get(0)).isNull();
+        assertThat(clients.get(1).getName()).isEqualTo("Ana");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        // only the unknown id reaches the database
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should query only the clients that are neither cached nor already loaded")
+    void shouldQueryOnlyTheClientsThatAreNeitherCachedNorAlreadyLoaded() {
+        Client other = clientRepository.save(Client.builder().name("Bia").email("bia@coffeestore.com").build());
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        List<Client> clients = transactionTemplate.execute(status -> {
+            clientRepository.findById(client.getId()).orElseThrow();
+            return clientRepository.findMultiple(List.of(client.getId(), other.getId()));
+        });
+
+        assertThat(clients).extracting(Client::getName).containsExactly("Ana", "Bia");
+        // one statement for findById, one for the client that was not loaded yet
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should not serve a stale client after a bulk enabled update")
+    void shouldNotServeAStaleClientAfterABulkEnabledUpdate() {
+        assertThat(clientRepository.findById(client.getId()).orElseThrow().isEnabled()).isTrue();
+
+        clientRepository.updateEnabled(client.getId(), false, LocalDateTime.now());
+
+        assertThat(clientRepository.findById(client.getId()).orElseThrow().isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not serve a stale address collection after an address is added")
+    void shouldNotServeAStaleAddressCollectionAfterAnAddressIsAdded() {
+        assertThat(countAddresses(client.getId())).isEqualTo(1);
+
+        addressRepository.save(Address.builder().street("Rua B").city("City").client(client).build());
+
+        assertThat(countAddresses(client.getId())).isEqualTo(2);
+    }
+
+    // each call runs in its own transaction, so nothing is served from a previous persistence context
+    private int countAddresses(UUID clientId) {
+        return transactionTemplate.execute(status ->
+                clientRepository.findById(clientId).orElseThrow().getAddresses().size());
+    }
+}
@@ -0,0 +1,84 @@
+package com.leticiapillar.coffeestore.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TextIndex Tests")
+class TextIndexTest {
+
+    private final TextIndex<Integer> index = new TextIndex<>();
+
+    @Test
+    @DisplayName("should find documents by token prefix ignoring case and accents")
+    void shouldFindDocumentsByTokenPrefixIgnoringCaseAndAccents() {
+        index.put(1, "Café com Leite");
+        index.put(2, "Cappuccino");
+        index.put(3, "Espresso");
+
+        assertThat(index.search("ca", 10)).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.search("CAFE", 10)).containsExactly(1);
+        assertThat(index.search("lei", 10)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("should require every query term to match")
+    void shouldRequireEveryQueryTermToMatch() {
+        index.put(1, "Ana Silva ana.silva@coffeestore.com");
+        index.put(2, "Ana Souza ana.souza@coffeestore.com");
+
+        assertThat(index.search("ana si", 10)).containsExactly(1);
+        assertThat(index.search("ana costa", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should rank exact token matches before prefix matches")
+    void shouldRankExactTokenMatchesBeforePrefixMatches() {
+        index.put(1, "Mocha Latte");
+        index.put(2, "Mocha");
+        index.put(3, "Mochaccino");
+
+        assertThat(index.search("mocha", 10)).containsExactly(2, 1, 3);
+    }
+
+    @Test
+    @DisplayName("should reindex a document when its text changes")
+    void shouldReindexADocumentWhenItsTextChanges() {
+        index.put(1, "Espresso");
+        index.put(1, "Ristretto");
+
+        assertThat(index.search("espresso", 10)).isEmpty();
+        assertThat(index.search("rist", 10)).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep the newer text when a bulk load races a write")
+    void shouldKeepTheNewerTextWhenABulkLoadRacesAWrite() {
+        index.put(1, "Ristretto");
+        index.putIfAbsent(1, "Espresso");
+
+        assertThat(index.search("ristretto", 10)).containsExactly(1);
+        assertThat(index.search("espresso", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should limit the number of results")
+    void shouldLimitTheNumberOfResults() {
+        for (int i = 0; i < 50; i++) {
+            index.put(i, "Coffee " + i);
+        }
+
+        assertThat(index.search("coffee", 5)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("should return nothing for a blank query")
+    void shouldReturnNothingForABlankQuery() {
+        index.put(1, "Espresso");
+
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+}
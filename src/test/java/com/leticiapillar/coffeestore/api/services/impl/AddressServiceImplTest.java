@@ -0,0 +1,74 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.concurrency.SingleFlight;
+import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+import com.leticiapillar.coffeestore.api.models.Address;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.repositories.AddressRepository;
+import com.leticiapillar.coffeestore.api.services.ChangeFeedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AddressServiceImpl Tests")
+class AddressServiceImplTest {
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private SingleFlight<UUID, Optional<ClientDTO>> clientLookups;
+
+    @InjectMocks
+    private AddressServiceImpl addressService;
+
+    @Nested
+    @DisplayName("deletebyId() Tests")
+    class DeleteByIdTests {
+
+        @Test
+        @DisplayName("should delete the address and stop sharing in-flight lookups of its client")
+        void shouldDeleteTheAddressAndStopSharingInFlightLookupsOfItsClient() {
+            UUID addressId = UUID.randomUUID();
+            Client client = Client.builder().id(UUID.randomUUID()).build();
+            Address address = Address.builder().id(addressId).client(client).build();
+            when(addressRepository.findById(addressId)).thenReturn(Optional.of(address));
+
+            addressService.deletebyId(addressId);
+
+            verify(addressRepository).delete(address);
+            verify(changeFeedService).record(ChangeEntityType.ADDRESS, ChangeType.DELETED, addressId, client.getId());
+            verify(clientLookups).forget(client.getId());
+        }
+
+        @Test
+        @DisplayName("should do nothing when the address does not exist")
+        void shouldDoNothingWhenTheAddressDoesNotExist() {
+            UUID addressId = UUID.randomUUID();
+            when(addressRepository.findById(addressId)).thenReturn(Optional.empty());
+
+            addressService.deletebyId(addressId);
+
+            verify(addressRepository, never()).delete(any());
+            verify(clientLookups, never()).forget(any());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.changes.ChangeEventSequencer;
+import com.leticiapillar.coffeestore.api.config.ChangeFeedConfig;
+import com.leticiapillar.coffeestore.api.config.ChangeFeedProperties;
+import com.leticiapillar.coffeestore.api.config.PaginationProperties;
+import com.leticiapillar.coffeestore.api.dtos.ChangeEventDTO;
+import com.leticiapillar.coffeestore.api.dtos.ChangeFeedDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+import com.leticiapillar.coffeestore.api.mappers.ChangeEventMapperImpl;
+import com.leticiapillar.coffeestore.api.repositories.ChangeEventRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "coffeestore.changes.sequencing-interval=1h"
+})
+@Import({ChangeFeedServiceImpl.class, ChangeEventMapperImpl.class, ChangeFeedConfig.class})
+@EnableConfigurationProperties({PaginationProperties.class, ChangeFeedProperties.class})
+@DisplayName("ChangeFeedServiceImpl Tests")
+class ChangeFeedServiceImplTest {
+
+    @Autowired
+    private ChangeFeedServiceImpl changeFeedService;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private ChangeEventSequencer changeEventSequencer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // the tests stamp changes themselves, so the worker woken by their commits must not stamp them first
+    @BeforeEach
+    void stopSequencerWorker() {
+        if (changeEventSequencer.isRunning()) {
+            changeEventSequencer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should return sequenced changes after the given cursor in order")
+    void shouldReturnSequencedChangesAfterTheGivenCursorInOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.CREATED, first);
+        changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.UPDATED, second);
+        changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.INACTIVATED, third);
+        changeEventSequencer.sequencePending();
+        long start = changeFeedService.findSince(0, 1).next();
+
+        ChangeFeedDTO page = changeFeedService.findSince(start, null);
+
+        assertThat(page.changes()).extracting(ChangeEventDTO::entityId).containsExactly(second, third);
+        assertThat(page.next()).isEqualTo(page.changes().getLast().sequence());
+        assertThat(changeFeedService.findSince(page.next(), null).changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should hold back changes until they are sequenced")
+    void shouldHoldBackChangesUntilTheyAreSequenced() {
+        long start = changeFeedService.findSince(0, null).next();
+        changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.UPDATED, UUID.randomUUID());
+
+        assertThat(changeFeedService.findSince(start, null).changes()).isEmpty();
+
+        changeEventSequencer.sequencePending();
+
+        assertThat(changeFeedService.findSince(start, null).changes()).singleElement()
+                .satisfies(change -> assertThat(change.changeType()).isEqualTo(ChangeType.UPDATED));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("should hand out a change that commits late after the changes a reader already passed")
+    void shouldHandOutAChangeThatCommitsLateAfterTheChangesAReaderAlreadyPassed() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        UUID late = UUID.randomUUID();
+        UUID early = UUID.randomUUID();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        try {
+            long start = changeFeedService.findSince(0, null).next();
+            // takes the lower id but commits last
+            CompletableFuture<Void> lateWriter = CompletableFuture.runAsync(() ->
+                    transactionTemplate.executeWithoutResult(status -> {
+                        changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.CREATED, late);
+                        changeEventRepository.flush();
+                        recorded.countDown();
+                        await(commit);
+                    }));
+            assertThat(recorded.await(5, TimeUnit.SECONDS)).isTrue();
+            transactionTemplate.executeWithoutResult(status ->
+                    changeFeedService.record(ChangeEntityType.COFFEE, ChangeType.UPDATED, early));
+            changeEventSequencer.sequencePending();
+
+            ChangeFeedDTO firstRead = changeFeedService.findSince(start, null);
+            commit.countDown();
+            lateWriter.get(5, TimeUnit.SECONDS);
+            changeEventSequencer.sequencePending();
+            ChangeFeedDTO secondRead = changeFeedService.findSince(firstRead.next(), null);
+
+            assertThat(firstRead.changes()).extracting(ChangeEventDTO::entityId).containsExactly(early);
+            assertThat(secondRead.changes()).extracting(ChangeEventDTO::entityId).containsExactly(late);
+        } finally {
+            commit.countDown();
+            changeEventRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("should seed the missing counter once when sequencers start stamping at the same time")
+    void shouldSeedTheMissingCounterOnceWhenSequencersStartStampingAtTheSameTime() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                changeEventRepository.deleteAllInBatch();
+                entityManager.createQuery("delete from ChangeFeedSequence").executeUpdate();
+                changeFeedService.record(ChangeEntityType.CLIENT, ChangeType.CREATED, UUID.randomUUID());
+                changeFeedService.record(ChangeEntityType.CLIENT, ChangeType.UPDATED, UUID.randomUUID());
+            });
+            CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> {
+                await(start);
+                return changeEventSequencer.sequencePending();
+            });
+            CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> {
+                await(start);
+                return changeEventSequencer.sequencePending();
+            });
+            start.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS) + second.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+            assertThat(changeFeedService.findSince(0, null).changes())
+                    .extracting(ChangeEventDTO::sequence).containsExactly(1L, 2L);
+        } finally {
+            start.countDown();
+            changeEventRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    @DisplayName("should keep the cursor when there is nothing new")
+    void shouldKeepTheCursorWhenThereIsNothingNew() {
+        assertThat(changeFeedService.findSince(42, null).next()).isEqualTo(42);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("should refuse to record a change outside a transaction")
+    void shouldRefuseToRecordAChangeOutsideATransaction() {
+        assertThatThrownBy(() -> changeFeedService.record(ChangeEntityType.CLIENT, ChangeType.CREATED, UUID.randomUUID()))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.changes.ChangeEventSequencer;
+import com.leticiapillar.coffeestore.api.config.ChangeFeedProperties;
+import com.leticiapillar.coffeestore.api.config.PaginationProperties;
+import com.leticiapillar.coffeestore.api.config.SingleFlightConfig;
+import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
+import com.leticiapillar.coffeestore.api.mappers.AddressMapperImpl;
+import com.leticiapillar.coffeestore.api.mappers.ChangeEventMapperImpl;
+import com.leticiapillar.coffeestore.api.mappers.ClientMapperImpl;
+import com.leticiapillar.coffeestore.api.models.Address;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.repositories.AddressRepository;
+import com.leticiapillar.coffeestore.api.repositories.ClientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({ClientServiceImpl.class, ChangeFeedServiceImpl.class, ClientMapperImpl.class, AddressMapperImpl.class,
+        ChangeEventMapperImpl.class, SingleFlightConfig.class, SimpleMeterRegistry.class})
+@EnableConfigurationProperties({PaginationProperties.class, ChangeFeedProperties.class})
+@DisplayName("ClientServiceImpl query count Tests")
+class ClientServiceImplQueryCountTest {
+
+    // a stub, so stamping never adds statements to the counts
+    @MockitoBean
+    private ChangeEventSequencer changeEventSequencer;
+
+    @Autowired
+    private ClientServiceImpl clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("should load clients with addresses in a constant number of statements")
+    void shouldLoadClientsWithAddressesInConstantNumberOfStatements() {
+        persistClients(5, 3);
+        long statementsForFewClients = countStatements();
+
+        persistClients(50, 3);
+        long statementsForManyClients = countStatements();
+
+        assertThat(statementsForFewClients).isEqualTo(1);
+        assertThat(statementsForManyClients).isEqualTo(statementsForFewClients);
+    }
+
+    @Test
+    @DisplayName("should return every address of every client")
+    void shouldReturnEveryAddressOfEveryClient() {
+        persistClients(10, 2);
+        entityManager.clear();
+
+        List<ClientDTO> result = clientService.findAll();
+
+        assertThat(result).hasSize(10);
+        assertThat(result).allSatisfy(client -> assertThat(client.addresses()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("should export every client with its addresses")
+    void shouldExportEveryClientWithItsAddresses() {
+        persistClients(12, 2);
+        entityManager.clear();
+        List<ClientDTO> exported = new ArrayList<>();
+
+        clientService.exportAll(exported::add);
+
+        assertThat(exported).hasSize(12);
+        assertThat(exported).allSatisfy(client -> assertThat(client.addresses()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("should search clients by name and email prefix")
+    void shouldSearchClientsByNameAndEmailPrefix() {
+        persistClients(3, 1);
+        entityManager.clear();
+
+        assertThat(clientService.search("client 1", null))
+                .extracting(ClientDTO::name)
+                .containsExactly("Client 1");
+        assertThat(clientService.search("client2@coffee", null))
+                .extracting(ClientDTO::email)
+                .containsExactly("client2@coffeestore.com");
+        assertThat(clientService.search("client", null)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("should look up clients in request order with explicit misses in a constant number of statements")
+    void shouldLookUpClientsInRequestOrderWithExplicitMissesInAConstantNumberOfStatements() {
+        persistClients(3, 2);
+        List<UUID> ids = clientRepository.findAll().stream().map(Client::getId).toList();
+        UUID missingId = UUID.randomUUID();
+        entityManager.clear();
+        statistics.clear();
+
+        List<LookupEntryDTO<ClientDTO>> result = clientService.findAllById(
+                List.of(ids.get(2), missingId, ids.get(0), ids.get(2), ids.get(1)));
+
+        assertThat(result).extracting(LookupEntryDTO::id)
+                .containsExactly(ids.get(2), missingId, ids.get(0), ids.get(2), ids.get(1));
+        assertThat(result).extracting(LookupEntryDTO::found).containsExactly(true, false, true, true, true);
+        assertThat(result.getFirst().value().addresses()).hasSize(2);
+        // one for the clients and one for their addresses
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private long countStatements() {
+        entityManager.clear();
+        statistics.clear();
+        clientService.findAll();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistClients(int clients, int addressesPerClient) {
+        for (int i = 0; i < clients; i++) {
+            Client client = clientRepository.save(Client.builder()
+                    .name("Client " + i)
+                    .email("client" + i + "@coffeestore.com")
+                    .build());
+            for (int j = 0; j < addressesPerClient; j++) {
+                addressRepository.save(Address.builder()
+                        .street("Street " + j)
+                        .number(String.valueOf(j))
+                        .city("City")
+                        .client(client)
+                        .build());
+            }
+        }
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,101 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.caching.ETags;
+import com.leticiapillar.coffeestore.api.concurrency.SingleFlight;
+import com.leticiapillar.coffeestore.api.dtos.ClientCrudDTO;
+import com.leticiapillar.coffeestore.api.dtos.ClientDTO;
+import com.leticiapillar.coffeestore.api.mappers.ClientMapperImpl;
+import com.leticiapillar.coffeestore.api.models.Address;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.repositories.ClientRepository;
+import com.leticiapillar.coffeestore.api.services.ChangeFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClientServiceImpl Tests")
+class ClientServiceImplTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private SingleFlight<UUID, Optional<ClientDTO>> clientLookups;
+
+    @Spy
+    private ClientMapperImpl clientMapper;
+
+    @InjectMocks
+    private ClientServiceImpl clientService;
+
+    private UUID clientId;
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        clientId = UUID.randomUUID();
+        client = Client.builder()
+                .id(clientId)
+                .name("Ana")
+                .email("ana@example.com")
+                .addresses(new ArrayList<>())
+                .enabled(true)
+                .version(3L)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("update() with If-Match Tests")
+    class UpdateIfMatchTests {
+
+        @Test
+        @DisplayName("should update when If-Match matches the client read in the transaction")
+        void shouldUpdateWhenIfMatchMatchesTheClientReadInTheTransaction() {
+            String etag = ETags.of(clientMapper.toDTO(client));
+            when(clientRepository.findById(clientId)).thenReturn(Optional.of(client));
+            when(clientRepository.saveAndFlush(client)).thenReturn(client);
+
+            Optional<ClientDTO> result = clientService.update(clientId, new ClientCrudDTO("Ana Maria", "ana@example.com"),
+                    "\"" + etag + "\"");
+
+            assertThat(result).hasValueSatisfying(updated -> assertThat(updated.name()).isEqualTo("Ana Maria"));
+            verify(clientRepository).saveAndFlush(client);
+        }
+
+        @Test
+        @DisplayName("should reject update when an address changed after the ETag was read although the version did not")
+        void shouldRejectUpdateWhenAnAddressChangedAfterTheETagWasReadAlthoughTheVersionDidNot() {
+            String etag = ETags.of(clientMapper.toDTO(client));
+            client.setAddresses(List.of(Address.builder().id(UUID.randomUUID()).street("Rua A").client(client).build()));
+            when(clientRepository.findById(clientId)).thenReturn(Optional.of(client));
+
+            assertThatThrownBy(() -> clientService.update(clientId, new ClientCrudDTO("Ana Maria", "ana@example.com"),
+                    "\"" + etag + "\""))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+            verify(clientRepository, never()).saveAndFlush(any());
+        }
+    }
+}
@@ -1,24 +1,51 @@
 package com.leticiapillar.coffeestore.api.services.impl;
 
+import com.leticiapillar.coffeestore.api.caching.ETags;
+import com.leticiapillar.coffeestore.api.concurrency.SingleFlight;
+import com.leticiapillar.coffeestore.api.config.CoffeeCatalogProperties;
+import com.leticiapillar.coffeestore.api.config.PaginationProperties;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeCatalogDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeCrudDTO;
 import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeMenuFilterDTO;
+import com.leticiapillar.coffeestore.api.dtos.CursorPageDTO;
+import com.leticiapillar.coffeestore.api.dtos.LookupEntryDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeEntityType;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+import com.leticiapillar.coffeestore.api.enums.CoffeeMenuSort;
 import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
 import com.leticiapillar.coffeestore.api.mappers.CoffeeMapper;
 import com.leticiapillar.coffeestore.api.models.Coffee;
+import com.leticiapillar.coffeestore.api.pagination.PageCursor;
+import com.leticiapillar.coffeestore.api.pagination.TooManyIdsException;
+import com.leticiapillar.coffeestore.api.pagination.TooManyItemsException;
 import com.leticiapillar.coffeestore.api.repositories.CoffeeRepository;
+import com.leticiapillar.coffeestore.api.services.ChangeFeedService;
+import com.leticiapillar.coffeestore.api.streaming.CoffeeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,8 +53,10 @@ import static com.leticiapillar.coffeestore.api.mocks.MocksCofee.mockCoffee;
 import static com.leticiapillar.coffeestore.api.mocks.MocksCofee.mockCoffeeCrudDTO;
 import static com.leticiapillar.coffeestore.api.mocks.MocksCofee.mockCoffeeDTO;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -43,6 +72,21 @@ class CoffeeServiceImplTest {
     @Mock
     private CoffeeMapper coffeeMapper;
 
+    @Mock
+    private PaginationProperties paginationProperties;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SingleFlight<Long, List<CoffeeDTO>> catalogLoads = new SingleFlight<>("coffee.catalog", new SimpleMeterRegistry());
+
+    @Spy
+    private CoffeeCatalogProperties catalogProperties = new CoffeeCatalogProperties(Duration.ofMinutes(1));
+
     @InjectMocks
     private CoffeeServiceImpl coffeeService;
 
@@ -106,6 +150,137 @@ class CoffeeServiceImplTest {
 
             verify(coffeeRepository, times(1)).findAll();
         }
+
+        @Test
+        @DisplayName("should reload the catalog once its time to live has passed")
+        void shouldReloadTheCatalogOnceItsTimeToLiveHasPassed() {
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO renamedCoffeeDTO = mockCoffeeDTO(coffeeId, "Coffee B", CoffeeSize.SMALL, 34.99, true, null);
+            doReturn(Duration.ZERO).when(catalogProperties).timeToLive();
+            when(coffeeRepository.findAll()).thenReturn(List.of(coffee));
+            when(coffeeMapper.toDTOList(any())).thenReturn(List.of(coffeeDTO)).thenReturn(List.of(renamedCoffeeDTO));
+
+            coffeeService.findAll();
+            List<CoffeeDTO> result = coffeeService.findAll();
+
+            assertThat(result).containsExactly(renamedCoffeeDTO);
+            verify(coffeeRepository, times(2)).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("findPage() Tests")
+    class FindPageTests {
+
+        @Test
+        @DisplayName("should return first page with next cursor when more rows exist")
+        void shouldReturnFirstPageWithNextCursorWhenMoreRowsExist() {
+            Coffee coffeeA = mockCoffee(UUID.randomUUID(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            Coffee coffeeB = mockCoffee(UUID.randomUUID(), "Coffee B", CoffeeSize.MEDIUM, 54.99, true, null);
+            Coffee coffeeC = mockCoffee(UUID.randomUUID(), "Coffee C", CoffeeSize.LARGE, 74.99, true, null);
+            CoffeeDTO coffeeDTOA = mockCoffeeDTO(coffeeA.getId(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO coffeeDTOB = mockCoffeeDTO(coffeeB.getId(), "Coffee B", CoffeeSize.MEDIUM, 54.99, true, null);
+            when(paginationProperties.resolve(null)).thenReturn(2);
+            when(coffeeRepository.findAllByOrderByCreatedAtAscIdAsc(Limit.of(3)))
+                    .thenReturn(List.of(coffeeA, coffeeB, coffeeC));
+            when(coffeeMapper.toDTOList(List.of(coffeeA, coffeeB))).thenReturn(List.of(coffeeDTOA, coffeeDTOB));
+
+            CursorPageDTO<CoffeeDTO> result = coffeeService.findPage(null, null);
+
+            assertThat(result.content()).containsExactly(coffeeDTOA, coffeeDTOB);
+            assertThat(PageCursor.decode(result.nextCursor()))
+                    .isEqualTo(new PageCursor(coffeeB.getCreatedAt(), coffeeB.getId()));
+        }
+
+        @Test
+        @DisplayName("should seek after cursor and return no next cursor on last page")
+        void shouldSeekAfterCursorAndReturnNoNextCursorOnLastPage() {
+            PageCursor cursor = new PageCursor(now, UUID.randomUUID());
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            when(paginationProperties.resolve(2)).thenReturn(2);
+            when(coffeeRepository.findPageAfter(cursor.createdAt(), cursor.id(), Limit.of(3))).thenReturn(List.of(coffee));
+            when(coffeeMapper.toDTOList(List.of(coffee))).thenReturn(List.of(coffeeDTO));
+
+            CursorPageDTO<CoffeeDTO> result = coffeeService.findPage(cursor.encode(), 2);
+
+            assertThat(result.content()).containsExactly(coffeeDTO);
+            assertThat(result.nextCursor()).isNull();
+            verify(coffeeRepository, never()).findAllByOrderByCreatedAtAscIdAsc(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("findMenu() Tests")
+    class FindMenuTests {
+
+        @Test
+        @DisplayName("should query filtered coffees and size facets from the repository")
+        @SuppressWarnings("unchecked")
+        void shouldQueryFilteredCoffeesAndSizeFacetsFromTheRepository() {
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.SMALL, 14.99, true, null);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 14.99, true, null);
+            Map<CoffeeSize, Long> facets = Map.of(CoffeeSize.SMALL, 1L, CoffeeSize.MEDIUM, 3L, CoffeeSize.LARGE, 0L);
+            CoffeeMenuFilterDTO filter = new CoffeeMenuFilterDTO(
+                    CoffeeSize.SMALL, new BigDecimal("10"), new BigDecimal("20"), CoffeeMenuSort.PRICE, Sort.Direction.DESC);
+            ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+            when(coffeeRepository.findAll(ArgumentMatchers.<Specification<Coffee>>any(), sortCaptor.capture())).thenReturn(List.of(coffee));
+            when(coffeeRepository.countBySize(ArgumentMatchers.<Specification<Coffee>>any())).thenReturn(facets);
+            when(coffeeMapper.toDTOList(List.of(coffee))).thenReturn(List.of(coffeeDTO));
+
+            CoffeeMenuDTO result = coffeeService.findMenu(filter);
+
+            assertThat(result.coffees()).containsExactly(coffeeDTO);
+            assertThat(result.sizeFacets()).isEqualTo(facets);
+            assertThat(sortCaptor.getValue()).containsExactly(Sort.Order.desc("price"), Sort.Order.asc("id"));
+            verify(coffeeRepository, never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("search() Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("should search coffees by name prefix from the loaded catalog")
+        void shouldSearchCoffeesByNamePrefixFromTheLoadedCatalog() {
+            Coffee latte = mockCoffee(coffeeId, "Latte", CoffeeSize.SMALL, 14.99, true, null);
+            Coffee mocha = mockCoffee(UUID.randomUUID(), "Mocha Latte", CoffeeSize.LARGE, 19.99, true, null);
+            Coffee espresso = mockCoffee(UUID.randomUUID(), "Espresso", CoffeeSize.SMALL, 9.99, true, null);
+            CoffeeDTO latteDTO = mockCoffeeDTO(latte.getId(), "Latte", CoffeeSize.SMALL, 14.99, true, null);
+            CoffeeDTO mochaDTO = mockCoffeeDTO(mocha.getId(), "Mocha Latte", CoffeeSize.LARGE, 19.99, true, null);
+            CoffeeDTO espressoDTO = mockCoffeeDTO(espresso.getId(), "Espresso", CoffeeSize.SMALL, 9.99, true, null);
+            List<Coffee> coffees = List.of(latte, mocha, espresso);
+            when(coffeeRepository.findAll()).thenReturn(coffees);
+            when(coffeeMapper.toDTOList(coffees)).thenReturn(List.of(latteDTO, mochaDTO, espressoDTO));
+            when(paginationProperties.resolve(null)).thenReturn(20);
+
+            assertThat(coffeeService.search("lat", null)).containsExactly(latteDTO, mochaDTO);
+            assertThat(coffeeService.search("esp", null)).containsExactly(espressoDTO);
+            verify(coffeeRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("should find a renamed coffee by its new name only")
+        void shouldFindARenamedCoffeeByItsNewNameOnly() {
+            Coffee coffee = mockCoffee(coffeeId, "Espresso", CoffeeSize.SMALL, 9.99, true, null);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Espresso", CoffeeSize.SMALL, 9.99, true, null);
+            CoffeeDTO renamedDTO = mockCoffeeDTO(coffeeId, "Ristretto", CoffeeSize.SMALL, 9.99, true, now);
+            CoffeeCrudDTO updateRequest = mockCoffeeCrudDTO("Ristretto", CoffeeSize.SMALL, 9.99);
+            when(coffeeRepository.findAll()).thenReturn(List.of(coffee));
+            when(coffeeMapper.toDTOList(List.of(coffee))).thenReturn(List.of(coffeeDTO));
+            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
+            when(coffeeRepository.saveAndFlush(coffee)).thenReturn(coffee);
+            when(coffeeMapper.toDTO(coffee)).thenReturn(renamedDTO);
+            when(paginationProperties.resolve(null)).thenReturn(20);
+
+            coffeeService.findAll();
+            coffeeService.update(coffeeId, updateRequest);
+
+            assertThat(coffeeService.search("espresso", null)).isEmpty();
+            assertThat(coffeeService.search("rist", null)).containsExactly(renamedDTO);
+        }
     }
 
     @Nested
@@ -117,52 +292,160 @@ class CoffeeServiceImplTest {
         void shouldReturnCoffeeWhenFound() {
             Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
             CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
-            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
-            when(coffeeMapper.toDTO(coffee)).thenReturn(coffeeDTO);
+            when(coffeeRepository.findAll()).thenReturn(List.of(coffee));
+            when(coffeeMapper.toDTOList(List.of(coffee))).thenReturn(List.of(coffeeDTO));
 
             Optional<CoffeeDTO> result = coffeeService.findById(coffeeId);
 
             assertThat(result).isPresent();
             assertThat(result.get().name()).isEqualTo(coffeeDTO.name());
             assertThat(result.get().id()).isEqualTo(coffeeId);
-            verify(coffeeRepository, times(1)).findById(coffeeId);
-            verify(coffeeMapper, times(1)).toDTO(coffee);
+            verify(coffeeRepository, times(1)).findAll();
+            verify(coffeeMapper, times(1)).toDTOList(List.of(coffee));
         }
 
         @Test
         @DisplayName("should return empty optional when coffee not found")
         void shouldReturnEmptyOptionalWhenCoffeeNotFound() {
             UUID nonExistentId = UUID.randomUUID();
-            when(coffeeRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(coffeeRepository.findAll()).thenReturn(List.of());
+            when(coffeeMapper.toDTOList(List.of())).thenReturn(List.of());
 
             Optional<CoffeeDTO> result = coffeeService.findById(nonExistentId);
 
             assertThat(result).isEmpty();
-            verify(coffeeRepository, times(1)).findById(nonExistentId);
-            verify(coffeeMapper, never()).toDTO(any());
+            verify(coffeeRepository, times(1)).findAll();
         }
 
         @Test
-        @DisplayName("should call repository with correct id")
-        void shouldCallRepositoryWithCorrectId() {
-            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+        @DisplayName("should not query repository by id")
+        void shouldNotQueryRepositoryById() {
             CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
-            when(coffeeRepository.findById(any())).thenReturn(Optional.of(coffee));
-            when(coffeeMapper.toDTO(any())).thenReturn(coffeeDTO);
+            when(coffeeRepository.findAll()).thenReturn(List.of());
+            when(coffeeMapper.toDTOList(any())).thenReturn(List.of(coffeeDTO));
 
             coffeeService.findById(coffeeId);
 
-            verify(coffeeRepository).findById(eq(coffeeId));
+            verify(coffeeRepository, never()).findById(any());
+            verify(coffeeMapper, never()).toDTO(any());
         }
 
         @Test
-        @DisplayName("should not map coffee when repository returns empty")
-        void shouldNotMapCoffeeWhenRepositoryReturnsEmpty() {
-            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.empty());
+        @DisplayName("should load catalog only once for repeated lookups")
+        void shouldLoadCatalogOnlyOnceForRepeatedLookups() {
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            when(coffeeRepository.findAll()).thenReturn(List.of());
+            when(coffeeMapper.toDTOList(any())).thenReturn(List.of(coffeeDTO));
 
             coffeeService.findById(coffeeId);
+            coffeeService.findById(UUID.randomUUID());
+            coffeeService.findAll();
 
-            verify(coffeeMapper, never()).toDTO(any());
+            verify(coffeeRepository, times(1)).findAll();
+            verify(coffeeMapper, times(1)).toDTOList(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllById() Tests")
+    class FindAllByIdTests {
+
+        @Test
+        @DisplayName("should return coffees in request order with explicit misses")
+        void shouldReturnCoffeesInRequestOrderWithExplicitMisses() {
+            CoffeeDTO coffeeA = mockCoffeeDTO(UUID.randomUUID(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO coffeeB = mockCoffeeDTO(UUID.randomUUID(), "Coffee B", CoffeeSize.LARGE, 74.99, true, null);
+            UUID missingId = UUID.randomUUID();
+            when(paginationProperties.maxSize()).thenReturn(100);
+            when(coffeeRepository.findAll()).thenReturn(List.of());
+            when(coffeeMapper.toDTOList(List.of())).thenReturn(List.of(coffeeA, coffeeB));
+
+            List<LookupEntryDTO<CoffeeDTO>> result = coffeeService.findAllById(List.of(coffeeB.id(), missingId, coffeeA.id()));
+
+            assertThat(result).containsExactly(
+                    new LookupEntryDTO<>(coffeeB.id(), true, coffeeB),
+                    new LookupEntryDTO<>(missingId, false, null),
+                    new LookupEntryDTO<>(coffeeA.id(), true, coffeeA));
+            verify(coffeeRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("should reject more ids than the page size limit")
+        void shouldRejectMoreIdsThanThePageSizeLimit() {
+            when(paginationProperties.maxSize()).thenReturn(1);
+
+            assertThatThrownBy(() -> coffeeService.findAllById(List.of(UUID.randomUUID(), UUID.randomUUID())))
+                    .isInstanceOf(TooManyIdsException.class);
+
+            verify(coffeeRepository, never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("catalog snapshot Tests")
+    class CatalogSnapshotTests {
+
+        @Test
+        @DisplayName("should add created coffee to loaded catalog")
+        void shouldAddCreatedCoffeeToLoadedCatalog() {
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.SMALL, 34.99);
+            when(coffeeRepository.findAll()).thenReturn(List.of());
+            when(coffeeMapper.toDTOList(List.of())).thenReturn(List.of());
+            when(coffeeMapper.toModel(coffeeCrudDTO)).thenReturn(coffee);
+            when(coffeeRepository.save(coffee)).thenReturn(coffee);
+            when(coffeeMapper.toDTO(coffee)).thenReturn(coffeeDTO);
+
+            coffeeService.findAll();
+            coffeeService.create(coffeeCrudDTO);
+
+            assertThat(coffeeService.findAll()).containsExactly(coffeeDTO);
+            assertThat(coffeeService.findById(coffeeId)).contains(coffeeDTO);
+            verify(coffeeRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("should replace updated coffee in loaded catalog")
+        void shouldReplaceUpdatedCoffeeInLoadedCatalog() {
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO updatedDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.LARGE, 54.99, true, now);
+            CoffeeCrudDTO updateRequest = mockCoffeeCrudDTO("Coffee A", CoffeeSize.LARGE, 54.99);
+            when(coffeeRepository.findAll()).thenReturn(List.of(coffee));
+            when(coffeeMapper.toDTOList(List.of(coffee))).thenReturn(List.of(coffeeDTO));
+            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
+            when(coffeeRepository.saveAndFlush(coffee)).thenReturn(coffee);
+            when(coffeeMapper.toDTO(coffee)).thenReturn(updatedDTO);
+
+            coffeeService.findAll();
+            coffeeService.update(coffeeId, updateRequest);
+
+            assertThat(coffeeService.findAll()).containsExactly(updatedDTO);
+            assertThat(coffeeService.findById(coffeeId)).contains(updatedDTO);
+            verify(coffeeRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("should change catalog version when a coffee changes")
+        void shouldChangeCatalogVersionWhenACoffeeChanges() {
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO updatedDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.SMALL, 39.99, true, now);
+            CoffeeCrudDTO updateRequest = mockCoffeeCrudDTO("Coffee A", CoffeeSize.SMALL, 39.99);
+            when(coffeeRepository.findAll()).thenReturn(List.of(coffee));
+            when(coffeeMapper.toDTOList(List.of(coffee))).thenReturn(List.of(coffeeDTO));
+            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
+            when(coffeeRepository.saveAndFlush(coffee)).thenReturn(coffee);
+            when(coffeeMapper.toDTO(coffee)).thenReturn(updatedDTO);
+
+            CoffeeCatalogDTO before = coffeeService.findCatalog();
+            assertThat(coffeeService.findCatalog().version()).isEqualTo(before.version());
+            coffeeService.update(coffeeId, updateRequest);
+            CoffeeCatalogDTO after = coffeeService.findCatalog();
+
+            assertThat(after.version()).isNotEqualTo(before.version());
+            assertThat(after.coffees()).containsExactly(updatedDTO);
         }
     }
 
@@ -191,6 +474,8 @@ class CoffeeServiceImplTest {
             verify(coffeeMapper, times(1)).toModel(coffeeCrudDTO);
             verify(coffeeRepository, times(1)).save(newCoffee);
             verify(coffeeMapper, times(1)).toDTO(newCoffee);
+            verify(changeFeedService).record(ChangeEntityType.COFFEE, ChangeType.CREATED, coffeeId);
+            verify(eventPublisher).publishEvent(new CoffeeChangedEvent(ChangeType.CREATED, coffeeId, coffeeDTO));
         }
 
         @Test
@@ -241,6 +526,47 @@ class CoffeeServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("createAll() Tests")
+    class CreateAllTests {
+
+        @Test
+        @DisplayName("should save all coffees in one call and return their ids")
+        void shouldSaveAllCoffeesInOneCallAndReturnTheirIds() {
+            Coffee coffeeA = mockCoffee(UUID.randomUUID(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            Coffee coffeeB = mockCoffee(UUID.randomUUID(), "Coffee B", CoffeeSize.LARGE, 74.99, true, null);
+            CoffeeDTO coffeeDTOA = mockCoffeeDTO(coffeeA.getId(), "Coffee A", CoffeeSize.SMALL, 34.99, true, null);
+            CoffeeDTO coffeeDTOB = mockCoffeeDTO(coffeeB.getId(), "Coffee B", CoffeeSize.LARGE, 74.99, true, null);
+            CoffeeCrudDTO requestA = mockCoffeeCrudDTO("Coffee A", CoffeeSize.SMALL, 34.99);
+            CoffeeCrudDTO requestB = mockCoffeeCrudDTO("Coffee B", CoffeeSize.LARGE, 74.99);
+            when(paginationProperties.maxSize()).thenReturn(100);
+            when(coffeeMapper.toModel(requestA)).thenReturn(coffeeA);
+            when(coffeeMapper.toModel(requestB)).thenReturn(coffeeB);
+            when(coffeeRepository.saveAll(List.of(coffeeA, coffeeB))).thenReturn(List.of(coffeeA, coffeeB));
+            when(coffeeMapper.toDTOList(List.of(coffeeA, coffeeB))).thenReturn(List.of(coffeeDTOA, coffeeDTOB));
+
+            List<UUID> result = coffeeService.createAll(List.of(requestA, requestB));
+
+            assertThat(result).containsExactly(coffeeA.getId(), coffeeB.getId());
+            verify(coffeeRepository, times(1)).saveAll(List.of(coffeeA, coffeeB));
+            verify(coffeeRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should reject more coffees than the page size limit")
+        void shouldRejectMoreCoffeesThanThePageSizeLimit() {
+            when(paginationProperties.maxSize()).thenReturn(1);
+            List<CoffeeCrudDTO> requests = List.of(
+                    mockCoffeeCrudDTO("Coffee A", CoffeeSize.SMALL, 34.99),
+                    mockCoffeeCrudDTO("Coffee B", CoffeeSize.LARGE, 74.99));
+
+            assertThatThrownBy(() -> coffeeService.createAll(requests))
+                    .isInstanceOf(TooManyItemsException.class);
+
+            verify(coffeeRepository, never()).saveAll(any());
+        }
+    }
+
     @Nested
     @DisplayName("update() Tests")
     class UpdateTests {
@@ -254,7 +580,7 @@ class CoffeeServiceImplTest {
             CoffeeCrudDTO updateRequest = mockCoffeeCrudDTO("Coffee A", CoffeeSize.MEDIUM, 54.99);
 
             when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
-            when(coffeeRepository.save(any())).thenReturn(updatedCoffee);
+            when(coffeeRepository.saveAndFlush(any())).thenReturn(updatedCoffee);
             when(coffeeMapper.toDTO(updatedCoffee)).thenReturn(updatedDTO);
 
             Optional<CoffeeDTO> result = coffeeService.update(coffeeId, updateRequest);
@@ -265,7 +591,7 @@ class CoffeeServiceImplTest {
             assertThat(result.get().price()).isEqualTo(new BigDecimal(updatedDTO.price().toString()));
             verify(coffeeRepository).findById(coffeeId);
             verify(coffeeMapper).updateEntityFromDto(eq(updateRequest), any());
-            verify(coffeeRepository).save(any());
+            verify(coffeeRepository).saveAndFlush(any());
             verify(coffeeMapper).toDTO(updatedCoffee);
         }
 
@@ -281,7 +607,7 @@ class CoffeeServiceImplTest {
             assertThat(result).isEmpty();
             verify(coffeeRepository).findById(nonExistentId);
             verify(coffeeMapper, never()).updateEntityFromDto(any(), any());
-            verify(coffeeRepository, never()).save(any());
+            verify(coffeeRepository, never()).saveAndFlush(any());
             verify(coffeeMapper, never()).toDTO(any());
         }
 
@@ -293,7 +619,7 @@ class CoffeeServiceImplTest {
             CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.MEDIUM, 54.99);
             ArgumentCaptor<Coffee> coffeeCaptor = ArgumentCaptor.forClass(Coffee.class);
             when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
-            when(coffeeRepository.save(any())).thenReturn(coffee);
+            when(coffeeRepository.saveAndFlush(any())).thenReturn(coffee);
             when(coffeeMapper.toDTO(any())).thenReturn(coffeeDTO);
 
             coffeeService.update(coffeeId, coffeeCrudDTO);
@@ -309,72 +635,112 @@ class CoffeeServiceImplTest {
             CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
             CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.MEDIUM, 54.99);
             when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
-            when(coffeeRepository.save(any())).thenReturn(coffee);
+            when(coffeeRepository.saveAndFlush(any())).thenReturn(coffee);
             when(coffeeMapper.toDTO(any())).thenReturn(coffeeDTO);
 
             coffeeService.update(coffeeId, coffeeCrudDTO);
 
             verify(coffeeRepository, times(1)).findById(coffeeId);
-            verify(coffeeRepository).save(any());
+            verify(coffeeRepository).saveAndFlush(any());
         }
-    }
-
-    @Nested
-    @DisplayName("activate() Tests")
-    class ActivateTests {
 
         @Test
-        @DisplayName("should activate coffee when found")
-        void shouldActivateCoffeeWhenFound() {
-            Coffee inactiveCoffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, false, now);
+        @DisplayName("should skip the write when nothing changed")
+        void shouldSkipTheWriteWhenNothingChanged() {
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
+            CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.MEDIUM, 54.99);
+            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
+            when(coffeeMapper.toCrudDTO(coffee)).thenReturn(coffeeCrudDTO);
+            when(coffeeMapper.toDTO(coffee)).thenReturn(coffeeDTO);
 
-            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(inactiveCoffee));
-            when(coffeeRepository.save(any())).thenReturn(inactiveCoffee);
+            Optional<CoffeeDTO> result = coffeeService.update(coffeeId, coffeeCrudDTO);
 
-            coffeeService.activate(coffeeId);
+            assertThat(result).contains(coffeeDTO);
+            verify(coffeeMapper, never()).updateEntityFromDto(any(), any());
+            verify(coffeeRepository, never()).saveAndFlush(any());
+        }
 
-            verify(coffeeRepository).findById(coffeeId);
-            verify(coffeeRepository).save(any());
+        @Test
+        @DisplayName("should update when If-Match matches the row read in the transaction")
+        void shouldUpdateWhenIfMatchMatchesTheRowReadInTheTransaction() {
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.LARGE, 54.99, true, now);
+            CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.LARGE, 54.99);
+            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
+            when(coffeeRepository.saveAndFlush(coffee)).thenReturn(coffee);
+            when(coffeeMapper.toDTO(coffee)).thenReturn(coffeeDTO);
+
+            Optional<CoffeeDTO> result = coffeeService.update(coffeeId, coffeeCrudDTO, "\"" + ETags.of(coffeeDTO) + "\"");
+
+            assertThat(result).contains(coffeeDTO);
+            verify(coffeeRepository).saveAndFlush(coffee);
         }
 
         @Test
-        @DisplayName("should set enabled to true")
-        void shouldSetEnabledToTrue() {
-            Coffee inactiveCoffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, false, now);
+        @DisplayName("should reject update when If-Match does not match the row read in the transaction")
+        void shouldRejectUpdateWhenIfMatchDoesNotMatchTheRowReadInTheTransaction() {
+            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
+            CoffeeDTO coffeeDTO = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
+            CoffeeCrudDTO coffeeCrudDTO = mockCoffeeCrudDTO("Coffee A", CoffeeSize.LARGE, 54.99);
+            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(coffee));
+            when(coffeeMapper.toDTO(coffee)).thenReturn(coffeeDTO);
 
-            ArgumentCaptor<Coffee> coffeeCaptor = ArgumentCaptor.forClass(Coffee.class);
+            assertThatThrownBy(() -> coffeeService.update(coffeeId, coffeeCrudDTO, "\"stale\""))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+            verify(coffeeMapper, never()).updateEntityFromDto(any(), any());
+            verify(coffeeRepository, never()).saveAndFlush(any());
+        }
+    }
 
-            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(inactiveCoffee));
-            when(coffeeRepository.save(any())).thenReturn(inactiveCoffee);
+    @Nested
+    @DisplayName("activate() Tests")
+    class ActivateTests {
 
-            coffeeService.activate(coffeeId);
+        @Test
+        @DisplayName("should activate coffee with a single update statement")
+        void shouldActivateCoffeeWithASingleUpdateStatement() {
+            when(coffeeRepository.updateEnabled(eq(coffeeId), eq(true), any(LocalDateTime.class))).thenReturn(1);
 
-            verify(coffeeRepository).save(coffeeCaptor.capture());
-            assertThat(coffeeCaptor.getValue().isEnabled()).isTrue();
+            boolean result = coffeeService.activate(coffeeId);
+
+            assertThat(result).isTrue();
+            verify(eventPublisher).publishEvent(new CoffeeChangedEvent(ChangeType.ACTIVATED, coffeeId, null));
+            verify(coffeeRepository).updateEnabled(eq(coffeeId), eq(true), any(LocalDateTime.class));
+            verify(coffeeRepository, never()).findById(any());
+            verify(coffeeRepository, never()).save(any());
+            verify(changeFeedService).record(ChangeEntityType.COFFEE, ChangeType.ACTIVATED, coffeeId);
         }
 
         @Test
-        @DisplayName("should not save when coffee not found")
-        void shouldNotSaveWhenCoffeeNotFound() {
+        @DisplayName("should return false when coffee not found")
+        void shouldReturnFalseWhenCoffeeNotFound() {
             UUID nonExistentId = UUID.randomUUID();
-            when(coffeeRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(coffeeRepository.updateEnabled(eq(nonExistentId), eq(true), any(LocalDateTime.class))).thenReturn(0);
 
-            coffeeService.activate(nonExistentId);
+            boolean result = coffeeService.activate(nonExistentId);
 
-            verify(coffeeRepository).findById(nonExistentId);
-            verify(coffeeRepository, never()).save(any());
+            assertThat(result).isFalse();
+            verify(changeFeedService, never()).record(any(), any(), any());
         }
 
         @Test
-        @DisplayName("should call repository findById with correct id")
-        void shouldCallRepositoryFindByIdWithCorrectId() {
-            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, false, now);
-            when(coffeeRepository.findById(any())).thenReturn(Optional.of(coffee));
-            when(coffeeRepository.save(any())).thenReturn(coffee);
+        @DisplayName("should enable coffee in loaded catalog")
+        void shouldEnableCoffeeInLoadedCatalog() {
+            CoffeeDTO inactiveCoffee = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, false, now);
+            when(coffeeRepository.findAll()).thenReturn(List.of());
+            when(coffeeMapper.toDTOList(List.of())).thenReturn(List.of(inactiveCoffee));
+            when(coffeeRepository.updateEnabled(eq(coffeeId), eq(true), any(LocalDateTime.class))).thenReturn(1);
 
+            coffeeService.findAll();
             coffeeService.activate(coffeeId);
 
-            verify(coffeeRepository).findById(eq(coffeeId));
+            assertThat(coffeeService.findById(coffeeId)).hasValueSatisfying(coffee -> {
+                assertThat(coffee.enabled()).isTrue();
+                assertThat(coffee.updatedAt()).isAfterOrEqualTo(now);
+                verify(eventPublisher).publishEvent(new CoffeeChangedEvent(ChangeType.ACTIVATED, coffeeId, coffee));
+            });
+            verify(coffeeRepository, times(1)).findAll();
         }
     }
 
@@ -383,56 +749,43 @@ class CoffeeServiceImplTest {
     class InactivateTests {
 
         @Test
-        @DisplayName("should inactivate coffee when found")
-        void shouldInactivateCoffeeWhenFound() {
-            Coffee activeCoffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
-            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(activeCoffee));
-            when(coffeeRepository.save(any())).thenReturn(activeCoffee);
-
-            coffeeService.inactivate(coffeeId);
-
-            verify(coffeeRepository).findById(coffeeId);
-            verify(coffeeRepository).save(any());
-        }
-
-        @Test
-        @DisplayName("should set enabled to false")
-        void shouldSetEnabledToFalse() {
-            Coffee activeCoffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
-            ArgumentCaptor<Coffee> coffeeCaptor = ArgumentCaptor.forClass(Coffee.class);
+        @DisplayName("should inactivate coffee with a single update statement")
+        void shouldInactivateCoffeeWithASingleUpdateStatement() {
+            when(coffeeRepository.updateEnabled(eq(coffeeId), eq(false), any(LocalDateTime.class))).thenReturn(1);
 
-            when(coffeeRepository.findById(coffeeId)).thenReturn(Optional.of(activeCoffee));
-            when(coffeeRepository.save(any())).thenReturn(activeCoffee);
+            boolean result = coffeeService.inactivate(coffeeId);
 
-            coffeeService.inactivate(coffeeId);
-
-            verify(coffeeRepository).save(coffeeCaptor.capture());
-            assertThat(coffeeCaptor.getValue().isEnabled()).isFalse();
+            assertThat(result).isTrue();
+            verify(coffeeRepository).updateEnabled(eq(coffeeId), eq(false), any(LocalDateTime.class));
+            verify(coffeeRepository, never()).findById(any());
+            verify(coffeeRepository, never()).save(any());
+            verify(changeFeedService).record(ChangeEntityType.COFFEE, ChangeType.INACTIVATED, coffeeId);
         }
 
         @Test
-        @DisplayName("should not save when coffee not found")
-        void shouldNotSaveWhenCoffeeNotFound() {
+        @DisplayName("should return false when coffee not found")
+        void shouldReturnFalseWhenCoffeeNotFound() {
             UUID nonExistentId = UUID.randomUUID();
-            when(coffeeRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(coffeeRepository.updateEnabled(eq(nonExistentId), eq(false), any(LocalDateTime.class))).thenReturn(0);
 
-            coffeeService.inactivate(nonExistentId);
+            boolean result = coffeeService.inactivate(nonExistentId);
 
-            verify(coffeeRepository).findById(nonExistentId);
-            verify(coffeeRepository, never()).save(any());
+            assertThat(result).isFalse();
         }
 
         @Test
-        @DisplayName("should call repository findById with correct id")
-        void shouldCallRepositoryFindByIdWithCorrectId() {
-            Coffee coffee = mockCoffee(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
-            when(coffeeRepository.findById(any())).thenReturn(Optional.of(coffee));
-            when(coffeeRepository.save(any())).thenReturn(coffee);
+        @DisplayName("should disable coffee in loaded catalog")
+        void shouldDisableCoffeeInLoadedCatalog() {
+            CoffeeDTO activeCoffee = mockCoffeeDTO(coffeeId, "Coffee A", CoffeeSize.MEDIUM, 54.99, true, now);
+            when(coffeeRepository.findAll()).thenReturn(List.of());
+            when(coffeeMapper.toDTOList(List.of())).thenReturn(List.of(activeCoffee));
+            when(coffeeRepository.updateEnabled(eq(coffeeId), eq(false), any(LocalDateTime.class))).thenReturn(1);
 
+            coffeeService.findAll();
             coffeeService.inactivate(coffeeId);
 
-            verify(coffeeRepository).findById(eq(coffeeId));
+            assertThat(coffeeService.findById(coffeeId)).hasValueSatisfying(coffee ->
+                    assertThat(coffee.enabled()).isFalse());
         }
     }
 }
-
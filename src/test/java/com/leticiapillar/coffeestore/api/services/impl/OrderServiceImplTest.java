@@ -0,0 +1,235 @@
+package com.leticiapillar.coffeestore.api.services.impl;
+
+import com.leticiapillar.coffeestore.api.config.OrderProperties;
+import com.leticiapillar.coffeestore.api.dtos.OrderCrudDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderDTO;
+import com.leticiapillar.coffeestore.api.dtos.OrderItemCrudDTO;
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import com.leticiapillar.coffeestore.api.enums.OrderStatus;
+import com.leticiapillar.coffeestore.api.mappers.OrderMapper;
+import com.leticiapillar.coffeestore.api.models.Client;
+import com.leticiapillar.coffeestore.api.models.Order;
+import com.leticiapillar.coffeestore.api.orders.InvalidOrderException;
+import com.leticiapillar.coffeestore.api.orders.OrderBatchWriter;
+import com.leticiapillar.coffeestore.api.orders.OrderQueueFullException;
+import com.leticiapillar.coffeestore.api.repositories.ClientRepository;
+import com.leticiapillar.coffeestore.api.repositories.OrderRepository;
+import com.leticiapillar.coffeestore.api.services.CoffeeService;
+import com.leticiapillar.coffeestore.api.services.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.leticiapillar.coffeestore.api.mocks.MocksCofee.mockCoffeeDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderServiceImpl Tests")
+class OrderServiceImplTest {
+
+    @Mock
+    private CoffeeService coffeeService;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private OrderBatchWriter orderBatchWriter;
+
+    private OrderServiceImpl orderService;
+
+    private UUID clientId;
+    private UUID espressoId;
+    private UUID latteId;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderServiceImpl(coffeeService, clientRepository, orderRepository, orderMapper,
+                orderBatchWriter, new OrderProperties(100, 10, 3, Duration.ofSeconds(1)));
+        clientId = UUID.randomUUID();
+        espressoId = UUID.randomUUID();
+        latteId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("place() Tests")
+    class PlaceTests {
+
+        @Test
+        @DisplayName("should price items from the catalog and queue the order")
+        void shouldPriceItemsFromTheCatalogAndQueueTheOrder() {
+            givenClient(true);
+            when(coffeeService.findById(espressoId))
+                    .thenReturn(Optional.of(mockCoffeeDTO(espressoId, "Espresso", CoffeeSize.SMALL, 9.50, true, null)));
+            when(coffeeService.findById(latteId))
+                    .thenReturn(Optional.of(mockCoffeeDTO(latteId, "Latte", CoffeeSize.MEDIUM, 14.25, true, null)));
+            when(orderBatchWriter.offer(any(OrderDTO.class))).thenReturn(true);
+
+            OrderDTO order = orderService.place(new OrderCrudDTO(clientId, List.of(
+                    new OrderItemCrudDTO(espressoId, 2),
+                    new OrderItemCrudDTO(latteId, 1))));
+
+            ArgumentCaptor<OrderDTO> queued = ArgumentCaptor.forClass(OrderDTO.class);
+            verify(orderBatchWriter).offer(queued.capture());
+            assertThat(queued.getValue()).isEqualTo(order);
+            assertThat(order.id()).isNotNull();
+            assertThat(order.status()).isEqualTo(OrderStatus.PENDING);
+            assertThat(order.items()).extracting(item -> item.unitPrice().doubleValue()).containsExactly(9.50, 14.25);
+            assertThat(order.total()).isEqualByComparingTo("33.25");
+        }
+
+        @Test
+        @DisplayName("should reject an order for an inactive client")
+        void shouldRejectAnOrderForAnInactiveClient() {
+            givenClient(false);
+
+            assertThatThrownBy(() -> orderService.place(new OrderCrudDTO(clientId, List.of(
+                    new OrderItemCrudDTO(espressoId, 1)))))
+                    .isInstanceOf(InvalidOrderException.class);
+
+            verify(orderBatchWriter, never()).offer(any());
+        }
+
+        @Test
+        @DisplayName("should reject an order with an inactive coffee")
+        void shouldRejectAnOrderWithAnInactiveCoffee() {
+            givenClient(true);
+            when(coffeeService.findById(espressoId))
+                    .thenReturn(Optional.of(mockCoffeeDTO(espressoId, "Espresso", CoffeeSize.SMALL, 9.50, false, null)));
+
+            assertThatThrownBy(() -> orderService.place(new OrderCrudDTO(clientId, List.of(
+                    new OrderItemCrudDTO(espressoId, 1)))))
+                    .isInstanceOf(InvalidOrderException.class);
+
+            verify(orderBatchWriter, never()).offer(any());
+        }
+
+        @Test
+        @DisplayName("should reject items without a positive quantity")
+        void shouldRejectItemsWithoutAPositiveQuantity() {
+            givenClient(true);
+
+            assertThatThrownBy(() -> orderService.place(new OrderCrudDTO(clientId, List.of(
+                    new OrderItemCrudDTO(espressoId, 0)))))
+                    .isInstanceOf(InvalidOrderException.class);
+        }
+
+        @Test
+        @DisplayName("should reject orders with more items than allowed")
+        void shouldRejectOrdersWithMoreItemsThanAllowed() {
+            OrderItemCrudDTO item = new OrderItemCrudDTO(espressoId, 1);
+
+            assertThatThrownBy(() -> orderService.place(new OrderCrudDTO(clientId, List.of(item, item, item, item))))
+                    .isInstanceOf(InvalidOrderException.class);
+        }
+
+        @Test
+        @DisplayName("should fail fast when the order queue is full")
+        void shouldFailFastWhenTheOrderQueueIsFull() {
+            givenClient(true);
+            when(coffeeService.findById(espressoId))
+                    .thenReturn(Optional.of(mockCoffeeDTO(espressoId, "Espresso", CoffeeSize.SMALL, 9.50, true, null)));
+            when(orderBatchWriter.offer(any(OrderDTO.class))).thenReturn(false);
+
+            assertThatThrownBy(() -> orderService.place(new OrderCrudDTO(clientId, List.of(
+                    new OrderItemCrudDTO(espressoId, 1)))))
+                    .isInstanceOf(OrderQueueFullException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("findById() Tests")
+    class FindByIdTests {
+
+        @Test
+        @DisplayName("should return a queued order without querying the database")
+        void shouldReturnAQueuedOrderWithoutQueryingTheDatabase() {
+            UUID orderId = UUID.randomUUID();
+            OrderDTO pending = new OrderDTO(orderId, clientId, OrderStatus.PENDING, List.of(), BigDecimal.ZERO, null);
+            when(orderBatchWriter.findPending(orderId)).thenReturn(Optional.of(pending));
+
+            assertThat(orderService.findById(orderId)).contains(pending);
+
+            verify(orderRepository, never()).findWithItemsById(any());
+        }
+
+        @Test
+        @DisplayName("should return a written order from the repository")
+        void shouldReturnAWrittenOrderFromTheRepository() {
+            UUID orderId = UUID.randomUUID();
+            Order order = Order.builder().id(orderId).status(OrderStatus.PLACED).build();
+            OrderDTO placed = new OrderDTO(orderId, clientId, OrderStatus.PLACED, List.of(), BigDecimal.ZERO, null);
+            when(orderBatchWriter.findPending(orderId)).thenReturn(Optional.empty());
+            when(orderRepository.findWithItemsById(orderId)).thenReturn(Optional.of(order));
+            when(orderMapper.toDTO(order)).thenReturn(placed);
+
+            assertThat(orderService.findById(orderId)).contains(placed);
+        }
+
+        @Test
+        @DisplayName("should read a written order in a read-write transaction so it is not routed to a replica")
+        void shouldReadAWrittenOrderInAReadWriteTransactionSoItIsNotRoutedToAReplica() {
+            UUID orderId = UUID.randomUUID();
+            AtomicReference<Boolean> readOnly = new AtomicReference<>();
+            when(orderBatchWriter.findPending(orderId)).thenReturn(Optional.empty());
+            when(orderRepository.findWithItemsById(orderId)).thenAnswer(invocation -> {
+                readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                return Optional.empty();
+            });
+            EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .build();
+            try {
+                TransactionManager transactionManager = new DataSourceTransactionManager(database);
+                ProxyFactory proxyFactory = new ProxyFactory(orderService);
+                proxyFactory.addAdvice(new TransactionInterceptor(
+                        transactionManager, new AnnotationTransactionAttributeSource()));
+                OrderService transactional = (OrderService) proxyFactory.getProxy();
+
+                transactional.findById(orderId);
+
+                assertThat(readOnly.get()).isFalse();
+            } finally {
+                database.shutdown();
+            }
+        }
+    }
+
+    private void givenClient(boolean enabled) {
+        when(clientRepository.findById(clientId))
+                .thenReturn(Optional.of(Client.builder().id(clientId).enabled(enabled).build()));
+    }
+}
@@ -0,0 +1,158 @@
+package com.leticiapillar.coffeestore.api.streaming;
+
+import com.leticiapillar.coffeestore.api.dtos.CoffeeCatalogDTO;
+import com.leticiapillar.coffeestore.api.dtos.CoffeeDTO;
+import com.leticiapillar.coffeestore.api.enums.ChangeType;
+import com.leticiapillar.coffeestore.api.enums.CoffeeSize;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static com.leticiapillar.coffeestore.api.mocks.MocksCofee.mockCoffeeDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CoffeeStreamBroadcaster Tests")
+class CoffeeStreamBroadcasterTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoffeeStreamBroadcaster broadcaster;
+    private CoffeeCatalogDTO catalog;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new CoffeeStreamBroadcaster(JsonMapper.builder().build(), QUEUE_CAPACITY, 2,
+                Duration.ofMinutes(1), Duration.ofSeconds(3), Duration.ofSeconds(1), meterRegistry);
+        broadcaster.start();
+        catalog = new CoffeeCatalogDTO("\"v1\"", List.of(coffee("Espresso")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    @DisplayName("should send the catalog first and then every change in order")
+    void shouldSendTheCatalogFirstAndThenEveryChangeInOrder() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, () -> catalog);
+        CoffeeDTO latte = coffee("Latte");
+        CoffeeDTO mocha = coffee("Mocha");
+
+        broadcaster.onCoffeeChanged(new CoffeeChangedEvent(ChangeType.CREATED, latte.id(), latte));
+        broadcaster.onCoffeeChanged(new CoffeeChangedEvent(ChangeType.CREATED, mocha.id(), mocha));
+        emitter.awaitSent(3);
+
+        assertThat(emitter.sent.get(0)).contains("event:" + CoffeeStreamBroadcaster.CATALOG_EVENT, "Espresso");
+        assertThat(emitter.sent.get(1)).contains("event:" + CoffeeStreamBroadcaster.COFFEE_EVENT, "Latte");
+        assertThat(emitter.sent.get(2)).contains("event:" + CoffeeStreamBroadcaster.COFFEE_EVENT, "Mocha");
+    }
+
+    @Test
+    @DisplayName("should drop a subscriber that falls behind without holding back the others")
+    void shouldDropASubscriberThatFallsBehindWithoutHoldingBackTheOthers() throws InterruptedException {
+        StalledEmitter slow = new StalledEmitter();
+        RecordingEmitter fast = new RecordingEmitter();
+        broadcaster.subscribe(slow, () -> catalog);
+        broadcaster.subscribe(fast, () -> catalog);
+        slow.sending.await();
+
+        for (int i = 0; i < QUEUE_CAPACITY + 1; i++) {
+            CoffeeDTO coffee = coffee("Coffee " + i);
+            broadcaster.onCoffeeChanged(new CoffeeChangedEvent(ChangeType.CREATED, coffee.id(), coffee));
+            fast.awaitSent(i + 2);
+        }
+        slow.release.countDown();
+
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(fast.sent).hasSize(QUEUE_CAPACITY + 2);
+        assertThat(meterRegistry.counter("coffees.stream.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should refuse subscribers beyond the limit")
+    void shouldRefuseSubscribersBeyondTheLimit() {
+        broadcaster.subscribe(new RecordingEmitter(), () -> catalog);
+        broadcaster.subscribe(new RecordingEmitter(), () -> catalog);
+
+        assertThatThrownBy(() -> broadcaster.subscribe(new RecordingEmitter(), () -> catalog))
+                .isInstanceOf(StreamCapacityExceededException.class);
+    }
+
+    @Test
+    @DisplayName("should not keep a subscriber whose catalog could not be loaded")
+    void shouldNotKeepASubscriberWhoseCatalogCouldNotBeLoaded() {
+        assertThatThrownBy(() -> broadcaster.subscribe(new RecordingEmitter(), () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should close every stream when a change cannot be described")
+    void shouldCloseEveryStreamWhenAChangeCannotBeDescribed() {
+        broadcaster.subscribe(new RecordingEmitter(), () -> catalog);
+
+        broadcaster.onCoffeeChanged(new CoffeeChangedEvent(ChangeType.ACTIVATED, UUID.randomUUID(), null));
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    private static CoffeeDTO coffee(String name) {
+        return mockCoffeeDTO(UUID.randomUUID(), name, CoffeeSize.SMALL, 9.50, true, null);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> sent = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(sent).hasSizeGreaterThanOrEqualTo(count);
+        }
+    }
+
+    private static class StalledEmitter extends SseEmitter {
+
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}